@@ -0,0 +1,54 @@
+package com.innovatepam.auth.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Second-level cache regions for {@code User} and {@code Role}. Each region is an in-process Caffeine
+ * cache; entries are updated by Hibernate when the entity is written through JPA, so native or bulk
+ * updates of these tables must evict them explicitly.
+ */
+@Configuration
+public class EntityCacheConfig {
+    private static final long MAX_ROLES = 100;
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(
+        @Value("${app.cache.users.ttl:PT10M}") Duration userTtl,
+        @Value("${app.cache.users.max-size:10000}") long maxUsers
+    ) {
+        // One manager per application context, so test contexts on different databases share no entries
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager(URI.create("entity-cache-" + UUID.randomUUID()), getClass().getClassLoader());
+        cacheManager.createCache("roles", region(MAX_ROLES, null));
+        cacheManager.createCache("users", region(maxUsers, userTtl));
+        cacheManager.createCache("users-by-email", region(maxUsers, userTtl));
+
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maximumSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        // Hibernate cache entries are immutable snapshots, so copying them on every access buys nothing
+        configuration.setStoreByValue(false);
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        return configuration;
+    }
+}
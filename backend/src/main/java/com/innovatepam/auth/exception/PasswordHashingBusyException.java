@@ -0,0 +1,20 @@
+package com.innovatepam.auth.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when the password hashing pool is saturated and a login or registration is shed instead
+ * of queued behind it.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public PasswordHashingBusyException(Duration retryAfter) {
+        super("Too many sign-in requests. Please try again shortly.");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
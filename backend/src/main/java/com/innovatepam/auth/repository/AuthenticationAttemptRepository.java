@@ -4,14 +4,20 @@ import com.innovatepam.auth.model.AuthenticationAttempt;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+/**
+ * authentication_attempts is partitioned by month of attempt_time; every query here bounds attempt_time
+ * from below so the planner only scans the partitions that can hold recent attempts.
+ */
 public interface AuthenticationAttemptRepository extends JpaRepository<AuthenticationAttempt, UUID> {
-    @Query("select a from AuthenticationAttempt a where a.email = :email and a.success = false and a.attemptTime > :since")
-    List<AuthenticationAttempt> findRecentFailedAttempts(
+    @Query("select a.attemptTime from AuthenticationAttempt a where a.email = :email and a.success = false and a.attemptTime > :since order by a.attemptTime desc")
+    List<LocalDateTime> findRecentFailedAttemptTimes(
         @Param("email") String email,
-        @Param("since") LocalDateTime since
+        @Param("since") LocalDateTime since,
+        Limit limit
     );
 }
@@ -0,0 +1,23 @@
+package com.innovatepam.auth.repository;
+
+import com.innovatepam.auth.model.User;
+import java.util.Optional;
+
+/**
+ * Lookups by email, the natural id of {@link User}, with control over the second-level cache.
+ */
+public interface UserNaturalIdRepository {
+
+    /**
+     * Resolves the email to an id through the natural-id cache and loads the user from the entity cache,
+     * so a warm lookup issues no SQL. Lock state may be as old as the cache entry when another instance
+     * changed it; use {@link #findCurrentByEmail} where it must be current.
+     */
+    Optional<User> findByEmail(String email);
+
+    /**
+     * Reads the user from the primary without consulting the cache and evicts its cached entry, so the
+     * next {@link #findByEmail} sees the same state.
+     */
+    Optional<User> findCurrentByEmail(String email);
+}
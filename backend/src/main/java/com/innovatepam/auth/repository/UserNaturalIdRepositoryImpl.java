@@ -0,0 +1,37 @@
+package com.innovatepam.auth.repository;
+
+import com.innovatepam.auth.model.User;
+import jakarta.persistence.EntityManager;
+import java.util.Optional;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+    private final EntityManager entityManager;
+
+    UserNaturalIdRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+            .bySimpleNaturalId(User.class)
+            .loadOptional(email);
+    }
+
+    @Override
+    @Transactional
+    public Optional<User> findCurrentByEmail(String email) {
+        Optional<User> user = entityManager.unwrap(Session.class)
+            .createSelectionQuery("from User u where u.email = :email", User.class)
+            .setParameter("email", email)
+            .setCacheMode(CacheMode.IGNORE)
+            .uniqueResultOptional();
+        // A load never overwrites a cached entry of an unversioned entity, so a stale one has to go
+        user.ifPresent(found -> entityManager.getEntityManagerFactory().getCache().evict(User.class, found.getId()));
+        return user;
+    }
+}
@@ -8,9 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface UserRepository extends JpaRepository<User, UUID> {
-    Optional<User> findByEmail(String email);
-
+public interface UserRepository extends JpaRepository<User, UUID>, UserNaturalIdRepository {
     boolean existsByEmail(String email);
 
     @Query("select u from User u where u.email = :email and u.locked = false")
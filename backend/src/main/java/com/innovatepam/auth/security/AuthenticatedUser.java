@@ -0,0 +1,21 @@
+package com.innovatepam.auth.security;
+
+import java.util.UUID;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * The caller of an authenticated request, built from the claims of their JWT without a database lookup.
+ * Its name is the email, so {@code Authentication#getName()} keeps returning the token subject.
+ *
+ * @param id User id from the {@code userId} claim
+ * @param email Token subject
+ * @param role Role name as issued, before it is turned into an authority
+ */
+public record AuthenticatedUser(UUID id, String email, String role) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
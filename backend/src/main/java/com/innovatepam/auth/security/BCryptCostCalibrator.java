@@ -0,0 +1,45 @@
+package com.innovatepam.auth.security;
+
+import java.time.Duration;
+import java.util.function.IntToLongFunction;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+/**
+ * Picks the highest BCrypt cost whose hash still finishes within a target time on this machine.
+ * Each cost step doubles the work, so the search stops as soon as the next step would overshoot
+ * rather than paying for that step.
+ */
+public final class BCryptCostCalibrator {
+    /** The fixed cost used before calibration; a lower floor weakens newly stored hashes. */
+    public static final int BASELINE_STRENGTH = 12;
+
+    private BCryptCostCalibrator() {
+    }
+
+    public static int calibrate(Duration target, int minStrength, int maxStrength) {
+        if (minStrength >= maxStrength) {
+            return minStrength;
+        }
+        // The first hash also pays for class loading and JIT warm-up
+        timeHash(minStrength);
+        return calibrate(target, minStrength, maxStrength, BCryptCostCalibrator::timeHash);
+    }
+
+    static int calibrate(Duration target, int minStrength, int maxStrength, IntToLongFunction hashNanos) {
+        long targetNanos = target.toNanos();
+        for (int strength = minStrength; strength < maxStrength; strength++) {
+            if (hashNanos.applyAsLong(strength) * 2 > targetNanos) {
+                return strength;
+            }
+        }
+        return maxStrength;
+    }
+
+    private static long timeHash(int strength) {
+        String salt = BCrypt.gensalt(strength);
+        long start = System.nanoTime();
+        BCrypt.hashpw("calibration-password", salt);
+        return System.nanoTime() - start;
+    }
+}
@@ -1,11 +1,16 @@
 package com.innovatepam.auth.security;
 
 import java.io.IOException;
+import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -20,6 +25,9 @@ import jakarta.servlet.http.HttpServletResponse;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
+    private final VerifiedTokenCache verifiedTokens = new VerifiedTokenCache();
+    // Role names come from signed tokens only, so this holds one entry per role in use
+    private final Map<String, List<GrantedAuthority>> authoritiesByRole = new ConcurrentHashMap<>();
 
     public JwtAuthenticationFilter(JwtService jwtService) {
         this.jwtService = jwtService;
@@ -39,18 +47,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = header.substring("Bearer ".length()).trim();
         try {
-            Claims claims = jwtService.parseToken(token);
-            String email = claims.getSubject();
-            String role = claims.get("role", String.class);
-
-            // Sanitize role name: remove invalid characters and convert to uppercase
-            // This ensures Spring Security authority names are always valid (e.g., ROLE_ADMIN, ROLE_EVALUATOR)
-            String sanitizedRole = sanitizeRoleName(role);
-
+            VerifiedTokenCache.Entry verified = verifiedTokens.get(token);
+            if (verified == null) {
+                verified = verify(token);
+            }
             UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                email,
+                verified.principal(),
                 null,
-                List.of(new SimpleGrantedAuthority("ROLE_" + sanitizedRole))
+                verified.authorities()
             );
             SecurityContextHolder.getContext().setAuthentication(authentication);
         } catch (Exception ex) {
@@ -60,6 +64,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private VerifiedTokenCache.Entry verify(String token) {
+        Claims claims = jwtService.parseToken(token);
+        String role = claims.get("role", String.class);
+        // A token without a user id cannot name the caller, so it authenticates nobody
+        AuthenticatedUser principal = new AuthenticatedUser(
+            UUID.fromString(claims.get("userId", String.class)),
+            claims.getSubject(),
+            role
+        );
+        Date expiration = claims.getExpiration();
+        VerifiedTokenCache.Entry verified = new VerifiedTokenCache.Entry(
+            token, principal, authorities(role), expiration == null ? Long.MAX_VALUE : expiration.getTime()
+        );
+        // A token without an expiry is still accepted but not cached, as nothing would ever evict it
+        if (expiration != null) {
+            verifiedTokens.put(verified);
+        }
+        return verified;
+    }
+
+    private List<GrantedAuthority> authorities(String role) {
+        // Sanitize role name so Spring Security authority names are always valid (e.g., ROLE_ADMIN, ROLE_EVALUATOR)
+        return authoritiesByRole.computeIfAbsent(
+            role == null ? "" : role,
+            name -> List.of(new SimpleGrantedAuthority("ROLE_" + sanitizeRoleName(name)))
+        );
+    }
+
     /**
      * Sanitize role names to comply with Spring Security authority naming rules.
      * Removes invalid characters (/, spaces, hyphens, etc.) and converts to uppercase.
@@ -12,6 +12,7 @@ import org.springframework.stereotype.Service;
 import com.innovatepam.auth.model.User;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -19,6 +20,7 @@ import io.jsonwebtoken.security.Keys;
 @Service
 public class JwtService {
     private final SecretKey secretKey;
+    private final JwtParser parser;
     private final long expirationSeconds;
 
     public JwtService(
@@ -26,6 +28,8 @@ public class JwtService {
         @Value("${app.security.jwt.expiration-seconds}") long expirationSeconds
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        // Parsers are immutable and thread-safe, so one instance serves every request
+        this.parser = Jwts.parserBuilder().setSigningKey(secretKey).build();
         this.expirationSeconds = expirationSeconds;
     }
 
@@ -50,11 +54,7 @@ public class JwtService {
     }
 
     public Claims parseToken(String token) {
-        return Jwts.parserBuilder()
-            .setSigningKey(secretKey)
-            .build()
-            .parseClaimsJws(token)
-            .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     public long getExpirationSeconds() {
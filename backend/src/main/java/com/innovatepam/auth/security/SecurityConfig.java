@@ -1,8 +1,12 @@
 package com.innovatepam.auth.security;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -21,6 +25,8 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 @Configuration
 @EnableMethodSecurity
 public class SecurityConfig {
+    private static final Logger log = LoggerFactory.getLogger(SecurityConfig.class);
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthenticationFilter jwtFilter) throws Exception {
         http
@@ -42,6 +48,8 @@ public class SecurityConfig {
                     "/swagger-ui/**",
                     "/actuator/health"
                 ).permitAll()
+                // Metrics expose cache, pool and query internals
+                .requestMatchers("/actuator/metrics", "/actuator/metrics/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
@@ -50,8 +58,28 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    public PasswordEncoder passwordEncoder(
+        @Value("${app.security.password.min-strength:12}") int minStrength,
+        @Value("${app.security.password.max-strength:14}") int maxStrength,
+        @Value("${app.security.password.target-hash-time:PT0.25S}") Duration targetHashTime,
+        @Value("${app.security.password.threads:0}") int threads,
+        @Value("${app.security.password.queue-capacity:32}") int queueCapacity,
+        @Value("${app.security.password.max-wait:PT2S}") Duration maxWait,
+        @Value("${app.security.password.retry-after:PT1S}") Duration retryAfter
+    ) {
+        if (minStrength < BCryptCostCalibrator.BASELINE_STRENGTH) {
+            log.warn("BCrypt minimum strength {} is below {}; new password hashes may be weaker than before",
+                minStrength, BCryptCostCalibrator.BASELINE_STRENGTH);
+        }
+        int strength = BCryptCostCalibrator.calibrate(targetHashTime, minStrength, maxStrength);
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(
+            new BCryptPasswordEncoder(strength),
+            poolSize,
+            queueCapacity,
+            maxWait,
+            retryAfter
+        );
     }
 
     @Bean
@@ -0,0 +1,90 @@
+package com.innovatepam.auth.security;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * Recently verified tokens, keyed by their signature segment, so a client repeating a token skips
+ * signature verification and claim parsing. An entry is only returned for the exact token it was built
+ * from and never at or past that token's expiry.
+ *
+ * The cache is bounded: once it is full, expired entries are dropped, and if that frees nothing the
+ * whole cache is cleared rather than tracking recency on every hit.
+ */
+public class VerifiedTokenCache {
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final int maxEntries;
+    private final LongSupplier clock;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * @param token The complete compact token, compared on every hit
+     * @param expiresAtMillis The token's exp claim in epoch milliseconds
+     */
+    public record Entry(
+        String token,
+        AuthenticatedUser principal,
+        List<GrantedAuthority> authorities,
+        long expiresAtMillis
+    ) {}
+
+    public VerifiedTokenCache() {
+        this(MAX_ENTRIES, System::currentTimeMillis);
+    }
+
+    VerifiedTokenCache(int maxEntries, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    /**
+     * @return The entry for this exact token, or null when it was not verified recently or has expired
+     */
+    public Entry get(String token) {
+        String signature = signature(token);
+        if (signature == null) {
+            return null;
+        }
+        Entry entry = entries.get(signature);
+        if (entry == null || !entry.token().equals(token)) {
+            return null;
+        }
+        if (clock.getAsLong() >= entry.expiresAtMillis()) {
+            entries.remove(signature, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    public void put(Entry entry) {
+        String signature = signature(entry.token());
+        if (signature == null) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            long now = clock.getAsLong();
+            entries.values().removeIf(cached -> now >= cached.expiresAtMillis());
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+        }
+        entries.put(signature, entry);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static String signature(String token) {
+        int dot = token.lastIndexOf('.');
+        if (dot < 0 || dot == token.length() - 1) {
+            return null;
+        }
+        return token.substring(dot + 1);
+    }
+}
@@ -18,22 +18,25 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationAttemptService attemptService;
+    private final LastLoginTracker lastLoginTracker;
 
     public AuthService(
         UserRepository userRepository,
         PasswordEncoder passwordEncoder,
         JwtService jwtService,
-        AuthenticationAttemptService attemptService
+        AuthenticationAttemptService attemptService,
+        LastLoginTracker lastLoginTracker
     ) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
         this.attemptService = attemptService;
+        this.lastLoginTracker = lastLoginTracker;
     }
 
     public AuthResponse login(LoginRequest request, String ipAddress) {
         String normalizedEmail = request.email().trim().toLowerCase(Locale.ROOT);
-        User user = userRepository.findByEmail(normalizedEmail)
+        User user = userRepository.findCurrentByEmail(normalizedEmail)
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid email or password"));
 
         if (user.isAccountLocked()) {
@@ -55,11 +58,24 @@ public class AuthService {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid email or password");
         }
 
-        user.setLocked(false);
-        user.setLockedUntil(null);
-        userRepository.save(user);
+        // The users row is only written when something on it actually changes: an expired lock is
+        // cleared or the hash is upgraded to the current cost
+        boolean changed = false;
+        if (user.isLocked() || user.getLockedUntil() != null) {
+            user.setLocked(false);
+            user.setLockedUntil(null);
+            changed = true;
+        }
+        if (passwordEncoder.upgradeEncoding(user.getPasswordHash())) {
+            user.setPasswordHash(passwordEncoder.encode(request.password()));
+            changed = true;
+        }
+        if (changed) {
+            userRepository.save(user);
+        }
 
         attemptService.recordSuccess(user.getEmail(), ipAddress);
+        lastLoginTracker.recordLogin(user.getId());
 
         String token = jwtService.generateToken(user);
         return new AuthResponse(
@@ -0,0 +1,165 @@
+package com.innovatepam.auth.service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maintains the monthly partitions of authentication_attempts. Each run creates the partitions for the
+ * current month and the configured number of months ahead, so inserts never hit a missing range, and
+ * drops every partition whose whole month is older than the retention period.
+ *
+ * Instances take a Postgres advisory lock for the run, so only one of them issues DDL at a time and the
+ * others skip it. Every statement is idempotent and a failing one is logged without stopping the rest,
+ * so a missing privilege or a lost race never fails startup or leaves later months uncreated.
+ */
+@Component
+public class AuthenticationAttemptPartitionManager {
+    private static final Logger log = LoggerFactory.getLogger(AuthenticationAttemptPartitionManager.class);
+    private static final String TABLE = "authentication_attempts";
+    private static final Pattern PARTITION_NAME = Pattern.compile(TABLE + "_p(\\d{4})_(\\d{2})");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final String PARTITIONS_SQL = "SELECT c.relname FROM pg_inherits i"
+        + " JOIN pg_class c ON c.oid = i.inhrelid"
+        + " WHERE i.inhparent = '" + TABLE + "'::regclass";
+    private static final String LOCK_KEY = "hashtext('" + TABLE + "_partitions')";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Period retention;
+    private final int monthsAhead;
+
+    public AuthenticationAttemptPartitionManager(
+        DataSource dataSource,
+        @Value("${app.audit.attempts.partitions.retention:P6M}") Period retention,
+        @Value("${app.audit.attempts.partitions.months-ahead:3}") int monthsAhead
+    ) {
+        if (retention.isNegative() || retention.isZero()) {
+            throw new IllegalArgumentException("Authentication attempt retention must be positive");
+        }
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.retention = retention;
+        // Always at least next month, so a missed run never leaves the coming month without a partition
+        this.monthsAhead = Math.max(1, monthsAhead);
+    }
+
+    /**
+     * Runs maintenance once at startup. A failure is logged rather than thrown, so it cannot keep the
+     * application from starting; the partitions created by the migration cover the coming months.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void maintainOnStartup() {
+        try {
+            maintain();
+        } catch (RuntimeException ex) {
+            log.error("Authentication attempt partition maintenance failed at startup", ex);
+        }
+    }
+
+    @Scheduled(
+        fixedDelayString = "${app.audit.attempts.partitions.maintenance-interval:PT6H}",
+        initialDelayString = "${app.audit.attempts.partitions.maintenance-interval:PT6H}"
+    )
+    public void maintain() {
+        maintain(LocalDate.now());
+    }
+
+    /**
+     * @return False when another instance holds the maintenance lock and this run was skipped
+     */
+    boolean maintain(LocalDate today) {
+        // The advisory lock is held by the session, so the whole run has to stay on one connection
+        Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                if (!tryLock(statement)) {
+                    return false;
+                }
+                try {
+                    maintain(statement, today);
+                } finally {
+                    statement.execute("SELECT pg_advisory_unlock(" + LOCK_KEY + ")");
+                }
+                return true;
+            }
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+
+    List<YearMonth> existingPartitions() {
+        return jdbcTemplate.execute((ConnectionCallback<List<YearMonth>>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                return existingPartitions(statement);
+            }
+        });
+    }
+
+    private void maintain(Statement statement, LocalDate today) throws SQLException {
+        YearMonth current = YearMonth.from(today);
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            execute(statement, "CREATE TABLE IF NOT EXISTS " + partitionName(month)
+                + " PARTITION OF " + TABLE
+                + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+        }
+
+        LocalDate cutoff = today.minus(retention);
+        for (YearMonth month : existingPartitions(statement)) {
+            // A partition goes only once nothing in its range can still be inside the retention period
+            if (!month.plusMonths(1).atDay(1).isAfter(cutoff)) {
+                execute(statement, "DROP TABLE IF EXISTS " + partitionName(month));
+            }
+        }
+    }
+
+    private static boolean tryLock(Statement statement) throws SQLException {
+        try (ResultSet rs = statement.executeQuery("SELECT pg_try_advisory_lock(" + LOCK_KEY + ")")) {
+            return rs.next() && rs.getBoolean(1);
+        }
+    }
+
+    private static List<YearMonth> existingPartitions(Statement statement) throws SQLException {
+        List<YearMonth> months = new ArrayList<>();
+        try (ResultSet rs = statement.executeQuery(PARTITIONS_SQL)) {
+            while (rs.next()) {
+                Matcher matcher = PARTITION_NAME.matcher(rs.getString(1));
+                if (matcher.matches()) {
+                    months.add(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+                }
+            }
+        }
+        months.sort(null);
+        return months;
+    }
+
+    // Statements run in autocommit, so one that fails leaves the connection usable for the rest
+    private static void execute(Statement statement, String sql) {
+        try {
+            statement.execute(sql);
+        } catch (SQLException ex) {
+            log.warn("Authentication attempt partition maintenance failed: {}", sql, ex);
+        }
+    }
+
+    static String partitionName(YearMonth month) {
+        return TABLE + "_p" + month.format(SUFFIX);
+    }
+}
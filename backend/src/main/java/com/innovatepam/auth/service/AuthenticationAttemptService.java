@@ -5,24 +5,28 @@ import com.innovatepam.auth.model.User;
 import com.innovatepam.auth.repository.AuthenticationAttemptRepository;
 import com.innovatepam.auth.repository.UserRepository;
 import java.time.LocalDateTime;
-import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 @Service
 public class AuthenticationAttemptService {
-    private static final int MAX_ATTEMPTS = 5;
-    private static final int WINDOW_MINUTES = 15;
     private static final int LOCK_MINUTES = 30;
 
     private final AuthenticationAttemptRepository attemptRepository;
     private final UserRepository userRepository;
+    private final AuthenticationAttemptWriter attemptWriter;
+    private final FailedLoginCounter failureCounter;
 
     public AuthenticationAttemptService(
         AuthenticationAttemptRepository attemptRepository,
-        UserRepository userRepository
+        UserRepository userRepository,
+        AuthenticationAttemptWriter attemptWriter,
+        FailedLoginCounter failureCounter
     ) {
         this.attemptRepository = attemptRepository;
         this.userRepository = userRepository;
+        this.attemptWriter = attemptWriter;
+        this.failureCounter = failureCounter;
     }
 
     public void recordSuccess(String email, String ipAddress) {
@@ -30,19 +34,24 @@ public class AuthenticationAttemptService {
         attempt.setEmail(email);
         attempt.setSuccess(true);
         attempt.setIpAddress(ipAddress);
-        attemptRepository.save(attempt);
+        attemptWriter.submit(attempt);
     }
 
     public boolean recordFailure(User user, String ipAddress) {
+        String email = user.getEmail();
+        int recentFailures = failureCounter.recordFailure(user.getId(), () -> attemptRepository.findRecentFailedAttemptTimes(
+            email,
+            LocalDateTime.now().minus(failureCounter.getWindow()),
+            Limit.of(failureCounter.getMaxAttempts())
+        ));
+
         AuthenticationAttempt attempt = new AuthenticationAttempt();
-        attempt.setEmail(user.getEmail());
+        attempt.setEmail(email);
         attempt.setSuccess(false);
         attempt.setIpAddress(ipAddress);
-        attemptRepository.save(attempt);
+        attemptWriter.submit(attempt);
 
-        LocalDateTime since = LocalDateTime.now().minusMinutes(WINDOW_MINUTES);
-        List<AuthenticationAttempt> recentFailures = attemptRepository.findRecentFailedAttempts(user.getEmail(), since);
-        if (recentFailures.size() >= MAX_ATTEMPTS) {
+        if (recentFailures >= failureCounter.getMaxAttempts()) {
             user.setLocked(true);
             user.setLockedUntil(LocalDateTime.now().plusMinutes(LOCK_MINUTES));
             userRepository.save(user);
@@ -0,0 +1,240 @@
+package com.innovatepam.auth.service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.innovatepam.auth.model.AuthenticationAttempt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Writes authentication attempts behind the login path. Attempts wait in a bounded queue and a single
+ * writer thread inserts them in JDBC batches, once a batch has filled up or the flush interval has
+ * passed. When the queue is full an attempt is dropped and counted instead of slowing the login down.
+ * Whatever is still queued is written when the application shuts down. A batch with a row the database
+ * rejects is retried row by row, so one bad row only loses itself. Any other failure, such as an
+ * unreachable database, puts the batch back on the queue and ends the flush, so an outage costs one
+ * failed statement per flush interval instead of one per row.
+ */
+@Component
+public class AuthenticationAttemptWriter implements SmartLifecycle {
+    /**
+     * Lifecycle phase of the login-path writers. Components stop in descending phase order, and the web
+     * server finishes in-flight requests at {@link WebServerGracefulShutdownLifecycle#SMART_LIFECYCLE_PHASE}
+     * and stops 1024 below it, so these writers stop only after the last login has been handled.
+     */
+    static final int PHASE = WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+
+    private static final Logger log = LoggerFactory.getLogger(AuthenticationAttemptWriter.class);
+    private static final String INSERT_SQL = "INSERT INTO authentication_attempts (id, email, attempt_time, success, ip_address)"
+        + " VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<AuthenticationAttempt> queue;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration shutdownTimeout;
+    // Held while attempts are taken off the queue and written, so flush() returns only once
+    // everything queued before it is in the database
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Counter written;
+    private final Counter droppedQueueFull;
+    private final Counter droppedWriteFailed;
+    private volatile boolean running;
+    // Set while the database is failing, so full batches stop waking the worker before the next interval
+    private volatile boolean backingOff;
+    private volatile Thread worker;
+
+    public AuthenticationAttemptWriter(
+        DataSource dataSource,
+        MeterRegistry meterRegistry,
+        @Value("${app.audit.attempts.queue-capacity:10000}") int queueCapacity,
+        @Value("${app.audit.attempts.batch-size:500}") int batchSize,
+        @Value("${app.audit.attempts.flush-interval:PT1S}") Duration flushInterval,
+        @Value("${app.audit.attempts.shutdown-timeout:PT10S}") Duration shutdownTimeout
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.shutdownTimeout = shutdownTimeout;
+        Gauge.builder("auth.attempts.audit.backlog", queue, BlockingQueue::size)
+            .description("Authentication attempts waiting to be written")
+            .register(meterRegistry);
+        this.written = Counter.builder("auth.attempts.audit.written")
+            .register(meterRegistry);
+        this.droppedQueueFull = Counter.builder("auth.attempts.audit.dropped")
+            .tag("reason", "queue_full")
+            .register(meterRegistry);
+        this.droppedWriteFailed = Counter.builder("auth.attempts.audit.dropped")
+            .tag("reason", "write_failed")
+            .register(meterRegistry);
+    }
+
+    public void submit(AuthenticationAttempt attempt) {
+        if (attempt.getAttemptTime() == null) {
+            attempt.setAttemptTime(LocalDateTime.now());
+        }
+        if (!queue.offer(attempt)) {
+            droppedQueueFull.increment();
+            return;
+        }
+        Thread current = worker;
+        if (current != null && !backingOff && queue.size() >= batchSize) {
+            LockSupport.unpark(current);
+        }
+    }
+
+    /**
+     * Writes everything queued so far on the calling thread.
+     */
+    public void flush() {
+        writeLock.lock();
+        try {
+            List<AuthenticationAttempt> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                if (!write(batch)) {
+                    return;
+                }
+                batch.clear();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::run, "auth-attempt-writer");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = worker;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        worker = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void run() {
+        while (running) {
+            // Woken early by submit() once a full batch is waiting
+            LockSupport.parkNanos(this, flushInterval.toNanos());
+            flush();
+        }
+        flush();
+        int left = queue.size();
+        if (left > 0) {
+            droppedWriteFailed.increment(left);
+            log.error("Dropped {} authentication attempts the database did not take before shutdown", left);
+        }
+    }
+
+    /**
+     * @return False when the database could not take the batch and what was left of it went back on the queue
+     */
+    private boolean write(List<AuthenticationAttempt> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), this::bind);
+            written.increment(batch.size());
+            backingOff = false;
+            return true;
+        } catch (DataIntegrityViolationException ex) {
+            log.warn("Could not write a batch of {} authentication attempts, retrying them one by one", batch.size(), ex);
+            for (int i = 0; i < batch.size(); i++) {
+                if (!writeOne(batch.get(i))) {
+                    requeue(batch.subList(i, batch.size()));
+                    backingOff = true;
+                    return false;
+                }
+            }
+            backingOff = false;
+            return true;
+        } catch (DataAccessException ex) {
+            log.warn("Could not write a batch of {} authentication attempts, retrying on the next flush", batch.size(), ex);
+            requeue(batch);
+            backingOff = true;
+            return false;
+        }
+    }
+
+    /**
+     * @return False when the row failed for a reason other than its own data
+     */
+    private boolean writeOne(AuthenticationAttempt attempt) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, statement -> bind(statement, attempt));
+            written.increment();
+        } catch (DataIntegrityViolationException ex) {
+            droppedWriteFailed.increment();
+            log.error("Dropped authentication attempt of {} at {}", attempt.getEmail(), attempt.getAttemptTime(), ex);
+        } catch (DataAccessException ex) {
+            log.warn("Could not write authentication attempts, retrying on the next flush", ex);
+            return false;
+        }
+        return true;
+    }
+
+    // Logins keep queueing meanwhile, so whatever no longer fits is dropped
+    private void requeue(List<AuthenticationAttempt> attempts) {
+        for (AuthenticationAttempt attempt : attempts) {
+            if (!queue.offer(attempt)) {
+                droppedWriteFailed.increment();
+            }
+        }
+    }
+
+    private void bind(PreparedStatement statement, AuthenticationAttempt attempt) throws SQLException {
+        statement.setObject(1, attempt.getId() != null ? attempt.getId() : UUID.randomUUID());
+        statement.setString(2, attempt.getEmail());
+        statement.setTimestamp(3, Timestamp.valueOf(attempt.getAttemptTime()));
+        statement.setBoolean(4, attempt.isSuccess());
+        statement.setString(5, attempt.getIpAddress());
+    }
+}
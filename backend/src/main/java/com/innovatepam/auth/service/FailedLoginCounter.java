@@ -0,0 +1,152 @@
+package com.innovatepam.auth.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sliding-window count of failed logins per account, kept in memory so a lockout decision needs no
+ * query. Each account holds only its most recent {@code maxAttempts} failure times in a ring, which is
+ * all that is needed to tell whether {@code maxAttempts} of them fall inside the window.
+ *
+ * Accounts are keyed by user id rather than email, so an account recreated under the same email
+ * starts from what is stored instead of what this instance remembers. An account seen for the first
+ * time is seeded from the stored attempts, so a restart does not reset anyone's count. For the same
+ * reason the map can simply be cleared when it fills up.
+ *
+ * Other instances count their own failures, so once an account reaches {@code resyncFrom} failures here,
+ * each further failure also reads the stored attempts and the higher of the two counts wins. A single
+ * mistyped password never costs a query, and spreading guesses over N instances gains at most
+ * {@code resyncFrom - 1} unchecked failures per instance. Stored attempts lag by up to one flush of
+ * {@link AuthenticationAttemptWriter}.
+ */
+@Component
+class FailedLoginCounter {
+    private static final int MAX_TRACKED = 100_000;
+
+    private final int maxAttempts;
+    private final int resyncFrom;
+    private final long windowMillis;
+    private final int maxTracked;
+    private final LongSupplier clock;
+    private final Map<UUID, FailureRing> rings = new ConcurrentHashMap<>();
+
+    @Autowired
+    FailedLoginCounter(
+        @Value("${app.security.lockout.max-attempts:5}") int maxAttempts,
+        @Value("${app.security.lockout.window:PT15M}") Duration window,
+        @Value("${app.security.lockout.resync-from:2}") int resyncFrom
+    ) {
+        this(maxAttempts, window, resyncFrom, MAX_TRACKED, System::currentTimeMillis);
+    }
+
+    FailedLoginCounter(int maxAttempts, Duration window, int resyncFrom, int maxTracked, LongSupplier clock) {
+        this.maxAttempts = maxAttempts;
+        this.resyncFrom = Math.max(1, resyncFrom);
+        this.windowMillis = window.toMillis();
+        this.maxTracked = maxTracked;
+        this.clock = clock;
+    }
+
+    /**
+     * Records a failure for the account and counts the failures inside the window, this one included.
+     * The count is capped at {@code maxAttempts}.
+     *
+     * @param storedFailures Loads the account's recent failures when it is not tracked yet or is close to
+     *                       the limit; it runs before this failure is stored, and at most once per call
+     */
+    int recordFailure(UUID userId, Supplier<List<LocalDateTime>> storedFailures) {
+        FailureRing ring = rings.get(userId);
+        boolean seeded = ring == null;
+        if (seeded) {
+            ring = seed(storedFailures.get());
+            if (rings.size() >= maxTracked) {
+                prune();
+            }
+            FailureRing existing = rings.putIfAbsent(userId, ring);
+            if (existing != null) {
+                ring = existing;
+            }
+        }
+        long now = clock.getAsLong();
+        ring.add(now);
+        int count = ring.countSince(now - windowMillis);
+        if (!seeded && count >= resyncFrom && count < maxAttempts) {
+            // Stored and local failures overlap, so they are compared rather than added up
+            FailureRing stored = seed(storedFailures.get());
+            stored.add(now);
+            int storedCount = stored.countSince(now - windowMillis);
+            if (storedCount > count) {
+                rings.put(userId, stored);
+                count = storedCount;
+            }
+        }
+        return count;
+    }
+
+    int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    Duration getWindow() {
+        return Duration.ofMillis(windowMillis);
+    }
+
+    int size() {
+        return rings.size();
+    }
+
+    private FailureRing seed(List<LocalDateTime> failures) {
+        FailureRing ring = new FailureRing(maxAttempts);
+        ZoneId zone = ZoneId.systemDefault();
+        // Oldest first, so the newest end up as the ring's most recent entries
+        failures.stream()
+            .map(time -> time.atZone(zone).toInstant().toEpochMilli())
+            .sorted()
+            .forEach(ring::add);
+        return ring;
+    }
+
+    private void prune() {
+        long since = clock.getAsLong() - windowMillis;
+        rings.values().removeIf(ring -> ring.countSince(since) == 0);
+        if (rings.size() >= maxTracked) {
+            rings.clear();
+        }
+    }
+
+    private static final class FailureRing {
+        private final AtomicLongArray times;
+        private final AtomicInteger next = new AtomicInteger();
+
+        FailureRing(int capacity) {
+            this.times = new AtomicLongArray(capacity);
+        }
+
+        void add(long time) {
+            times.set(Math.floorMod(next.getAndIncrement(), times.length()), time);
+        }
+
+        int countSince(long since) {
+            int count = 0;
+            for (int i = 0; i < times.length(); i++) {
+                if (times.get(i) > since) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.innovatepam.auth.service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Records users' last successful login without writing on the login path. Logins are coalesced per user
+ * in memory, so a user who logs in many times between flushes costs one row update, and the pending
+ * times are written to users.last_login_at in JDBC batches on a fixed delay and when the application
+ * shuts down. A batch that fails is merged back and retried on the next flush.
+ */
+@Component
+public class LastLoginTracker implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(LastLoginTracker.class);
+
+    // Never moves last_login_at backwards, for example when another instance flushed a newer login
+    private static final String UPDATE_SQL = "UPDATE users SET last_login_at = ?"
+        + " WHERE id = ? AND (last_login_at IS NULL OR last_login_at < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final Map<UUID, LocalDateTime> pending = new ConcurrentHashMap<>();
+    // Held while pending logins are taken out and written, so flush() returns only once everything
+    // recorded before it is in the database
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Counter written;
+    private final Counter failed;
+    private volatile boolean running;
+
+    public LastLoginTracker(
+        DataSource dataSource,
+        MeterRegistry meterRegistry,
+        @Value("${app.audit.last-login.batch-size:500}") int batchSize
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.batchSize = batchSize;
+        Gauge.builder("auth.last-login.pending", pending, Map::size)
+            .description("Users whose last login has not been written yet")
+            .register(meterRegistry);
+        this.written = Counter.builder("auth.last-login.written")
+            .register(meterRegistry);
+        this.failed = Counter.builder("auth.last-login.failed")
+            .register(meterRegistry);
+    }
+
+    public void recordLogin(UUID userId) {
+        recordLogin(userId, LocalDateTime.now());
+    }
+
+    void recordLogin(UUID userId, LocalDateTime loginTime) {
+        pending.merge(userId, loginTime, (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    /**
+     * Writes every login recorded so far on the calling thread.
+     */
+    @Scheduled(
+        fixedDelayString = "${app.audit.last-login.flush-interval:PT30S}",
+        initialDelayString = "${app.audit.last-login.flush-interval:PT30S}"
+    )
+    public void flush() {
+        writeLock.lock();
+        try {
+            List<Map.Entry<UUID, LocalDateTime>> batch = new ArrayList<>(batchSize);
+            for (UUID userId : pending.keySet()) {
+                LocalDateTime loginTime = pending.remove(userId);
+                if (loginTime != null) {
+                    batch.add(Map.entry(userId, loginTime));
+                }
+                if (batch.size() == batchSize) {
+                    write(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Stops after the web server, like the attempt writer, so logins still in flight are recorded first
+    @Override
+    public int getPhase() {
+        return AuthenticationAttemptWriter.PHASE;
+    }
+
+    private void write(List<Map.Entry<UUID, LocalDateTime>> batch) {
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch, batch.size(), this::bind);
+            written.increment(batch.size());
+        } catch (DataAccessException ex) {
+            failed.increment(batch.size());
+            batch.forEach(entry -> recordLogin(entry.getKey(), entry.getValue()));
+            log.warn("Could not write last login for {} users, retrying on the next flush", batch.size(), ex);
+        }
+    }
+
+    private void bind(PreparedStatement statement, Map.Entry<UUID, LocalDateTime> entry) throws SQLException {
+        Timestamp loginTime = Timestamp.valueOf(entry.getValue());
+        statement.setTimestamp(1, loginTime);
+        statement.setObject(2, entry.getKey());
+        statement.setTimestamp(3, loginTime);
+    }
+}
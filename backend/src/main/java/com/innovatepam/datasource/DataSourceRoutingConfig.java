@@ -0,0 +1,81 @@
+package com.innovatepam.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Replaces the auto-configured DataSource with one that routes read-only transactions to replicas.
+ *
+ * The primary pool is still configured through {@code spring.datasource.*} and is what Flyway migrates.
+ * Replica pools are created lazily, so an unreachable replica does not block startup; it stays out of
+ * rotation until a health check passes.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+    // Hikari rejects connection timeouts below 250ms
+    private static final Duration MIN_CONNECTION_TIMEOUT = Duration.ofMillis(250);
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaPools replicaPools(DataSourceRoutingProperties routing, DataSourceProperties primary) {
+        List<ReplicaPool> pools = new ArrayList<>();
+        for (DataSourceRoutingProperties.Replica replica : routing.replicas()) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(replica.name());
+            pool.setJdbcUrl(replica.url());
+            pool.setUsername(replica.username() != null ? replica.username() : primary.determineUsername());
+            pool.setPassword(replica.password() != null ? replica.password() : primary.determinePassword());
+            pool.setReadOnly(true);
+            pool.setConnectionTimeout(max(routing.healthCheckTimeout(), MIN_CONNECTION_TIMEOUT).toMillis());
+            if (replica.maximumPoolSize() != null) {
+                pool.setMaximumPoolSize(replica.maximumPoolSize());
+            }
+            // Makes each pool's sessions identifiable in pg_stat_activity
+            pool.addDataSourceProperty("ApplicationName", replica.name());
+            pools.add(new ReplicaPool(replica.name(), pool));
+        }
+        return new ReplicaPools(pools, routing.healthCheckTimeout(), routing.maxReplicationLag());
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(DataSourceRoutingProperties routing) {
+        return new ReadYourWritesTracker(routing.readYourWritesWindow());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+        HikariDataSource primaryDataSource,
+        ReplicaPools replicaPools,
+        ReadYourWritesTracker readYourWritesTracker
+    ) {
+        return new LazyConnectionDataSourceProxy(
+            new ReadReplicaRoutingDataSource(primaryDataSource, replicaPools, readYourWritesTracker)
+        );
+    }
+
+    private static Duration max(Duration first, Duration second) {
+        return first.compareTo(second) >= 0 ? first : second;
+    }
+}
@@ -0,0 +1,41 @@
+package com.innovatepam.datasource;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Read replica settings under {@code app.datasource.routing}. With no replicas configured every
+ * connection comes from the primary, exactly as without routing.
+ *
+ * @param replicas Replica pools; username and password default to the primary's
+ * @param healthCheckTimeout Connection and query timeout of a replica health check
+ * @param maxReplicationLag Replicas further behind than this are taken out of rotation
+ * @param readYourWritesWindow How long a user's reads stay on the primary after their own write; zero disables it
+ */
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public record DataSourceRoutingProperties(
+    List<Replica> replicas,
+    Duration healthCheckTimeout,
+    Duration maxReplicationLag,
+    Duration readYourWritesWindow
+) {
+    public DataSourceRoutingProperties {
+        replicas = replicas == null ? List.of() : List.copyOf(replicas);
+        healthCheckTimeout = healthCheckTimeout == null ? Duration.ofSeconds(2) : healthCheckTimeout;
+        maxReplicationLag = maxReplicationLag == null ? Duration.ofSeconds(10) : maxReplicationLag;
+        readYourWritesWindow = readYourWritesWindow == null ? Duration.ZERO : readYourWritesWindow;
+    }
+
+    /**
+     * @param name Pool name, also sent as the Postgres application_name of its connections
+     */
+    public record Replica(
+        String name,
+        String url,
+        String username,
+        String password,
+        Integer maximumPoolSize
+    ) {}
+}
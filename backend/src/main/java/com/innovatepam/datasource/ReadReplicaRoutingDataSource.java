@@ -0,0 +1,100 @@
+package com.innovatepam.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Hands out replica connections for read-only transactions and primary connections for everything else.
+ *
+ * Must be wrapped in a {@code LazyConnectionDataSourceProxy}: transaction managers fetch their connection
+ * before the read-only flag is published on {@link TransactionSynchronizationManager}, and the proxy
+ * defers the real fetch to the first statement, when the flag is visible. A replica that refuses a
+ * connection is taken out of rotation and the transaction runs on the primary instead.
+ *
+ * Read-write transactions of an authenticated user are reported to the {@link ReadYourWritesTracker} when
+ * they commit, and that user's read-only transactions stay on the primary for the configured window.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractDataSource {
+    private final DataSource primary;
+    private final ReplicaPools replicas;
+    private final ReadYourWritesTracker readYourWrites;
+    private final Object writeTrackingKey = new Object();
+
+    public ReadReplicaRoutingDataSource(DataSource primary, ReplicaPools replicas, ReadYourWritesTracker readYourWrites) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            ReplicaPool replica = selectReplica();
+            if (replica != null) {
+                try {
+                    return replica.getDataSource().getConnection();
+                } catch (SQLException ex) {
+                    replica.markDown(ex.getMessage());
+                }
+            }
+        } else {
+            trackWrite();
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    ReplicaPool selectReplica() {
+        if (replicas.isEmpty() || readYourWrites.isWithinWindow(currentPrincipal())) {
+            return null;
+        }
+        return replicas.next();
+    }
+
+    private void trackWrite() {
+        if (!readYourWrites.isEnabled()
+            || !TransactionSynchronizationManager.isActualTransactionActive()
+            || !TransactionSynchronizationManager.isSynchronizationActive()
+            || TransactionSynchronizationManager.hasResource(writeTrackingKey)) {
+            return;
+        }
+        String principal = currentPrincipal();
+        if (principal == null) {
+            return;
+        }
+        // Bound for the rest of the transaction so a second connection fetch does not register twice
+        TransactionSynchronizationManager.bindResource(writeTrackingKey, principal);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(writeTrackingKey);
+                if (status == STATUS_COMMITTED) {
+                    readYourWrites.recordWrite(principal);
+                }
+            }
+        });
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+            || !authentication.isAuthenticated()
+            || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,63 @@
+package com.innovatepam.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers when each user last committed a write, so their reads can stay on the primary until
+ * replicas have had time to catch up.
+ *
+ * State is per application instance: a user whose next request lands on another instance is not
+ * covered. Entries expire with the window and are pruned when the map grows.
+ */
+public class ReadYourWritesTracker {
+    private static final int PRUNE_THRESHOLD = 10_000;
+
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this(window, System::nanoTime);
+    }
+
+    ReadYourWritesTracker(Duration window, LongSupplier nanoClock) {
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public boolean isEnabled() {
+        return windowNanos > 0;
+    }
+
+    public void recordWrite(String principal) {
+        if (!isEnabled() || principal == null) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        lastWrites.put(principal, now);
+        if (lastWrites.size() > PRUNE_THRESHOLD) {
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt >= windowNanos);
+        }
+    }
+
+    /**
+     * @return Whether the user committed a write less than one window ago
+     */
+    public boolean isWithinWindow(String principal) {
+        if (!isEnabled() || principal == null) {
+            return false;
+        }
+        Long writtenAt = lastWrites.get(principal);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (nanoClock.getAsLong() - writtenAt < windowNanos) {
+            return true;
+        }
+        lastWrites.remove(principal, writtenAt);
+        return false;
+    }
+}
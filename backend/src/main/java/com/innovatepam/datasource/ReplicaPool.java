@@ -0,0 +1,45 @@
+package com.innovatepam.datasource;
+
+import javax.sql.DataSource;
+
+/**
+ * A replica connection pool and the outcome of its latest health check. A replica starts out of
+ * rotation and only receives reads once a check has passed.
+ */
+public class ReplicaPool {
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean healthy;
+    private volatile String lastError;
+
+    public ReplicaPool(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void markUp() {
+        healthy = true;
+        lastError = null;
+    }
+
+    public void markDown(String error) {
+        healthy = false;
+        lastError = error;
+    }
+}
@@ -0,0 +1,97 @@
+package com.innovatepam.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * The configured read replicas, their health checks and round-robin selection.
+ *
+ * A check connects to the replica and reads its replay lag. A replica that has replayed everything it
+ * received counts as zero lag even when its last replayed transaction is old, so an idle primary does
+ * not take every replica out of rotation. A server that is not in recovery (a second pool on the
+ * primary itself, as in local setups) always reports zero lag.
+ */
+public class ReplicaPools implements AutoCloseable {
+    private static final String LAG_SQL = "SELECT CASE"
+        + " WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+        + " ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    private final List<ReplicaPool> pools;
+    private final int timeoutSeconds;
+    private final double maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaPools(List<ReplicaPool> pools, Duration checkTimeout, Duration maxReplicationLag) {
+        this.pools = List.copyOf(pools);
+        this.timeoutSeconds = (int) Math.max(1, checkTimeout.toSeconds());
+        this.maxLagSeconds = maxReplicationLag.toMillis() / 1000.0;
+    }
+
+    public List<ReplicaPool> getPools() {
+        return pools;
+    }
+
+    public boolean isEmpty() {
+        return pools.isEmpty();
+    }
+
+    /**
+     * @return The next healthy replica in round-robin order, or null when none is healthy
+     */
+    public ReplicaPool next() {
+        if (pools.isEmpty()) {
+            return null;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), pools.size());
+        for (int i = 0; i < pools.size(); i++) {
+            ReplicaPool pool = pools.get((start + i) % pools.size());
+            if (pool.isHealthy()) {
+                return pool;
+            }
+        }
+        return null;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.health-check-interval:PT5S}")
+    public void checkHealth() {
+        for (ReplicaPool pool : pools) {
+            check(pool);
+        }
+    }
+
+    void check(ReplicaPool pool) {
+        try (Connection connection = pool.getDataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(timeoutSeconds);
+            try (ResultSet rs = statement.executeQuery(LAG_SQL)) {
+                rs.next();
+                double lagSeconds = rs.getDouble(1);
+                if (rs.wasNull()) {
+                    pool.markDown("Replica has not replayed any transaction yet");
+                } else if (lagSeconds > maxLagSeconds) {
+                    pool.markDown("Replication lag of " + lagSeconds + "s exceeds " + maxLagSeconds + "s");
+                } else {
+                    pool.markUp();
+                }
+            }
+        } catch (SQLException ex) {
+            pool.markDown(ex.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (ReplicaPool pool : pools) {
+            if (pool.getDataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
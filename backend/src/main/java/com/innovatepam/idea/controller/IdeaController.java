@@ -1,16 +1,23 @@
 package com.innovatepam.idea.controller;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
 import org.springframework.core.io.Resource;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -18,38 +25,56 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
-import com.innovatepam.auth.model.User;
-import com.innovatepam.auth.repository.UserRepository;
-import com.innovatepam.idea.dto.IdeaDetailResponse;
+import com.innovatepam.auth.security.AuthenticatedUser;
+import com.innovatepam.idea.dto.CursorPageResponse;
+import com.innovatepam.idea.dto.IdeaBatchResponse;
+import com.innovatepam.idea.dto.IdeaFacetsResponse;
+import com.innovatepam.idea.dto.IdeaFilter;
+import com.innovatepam.idea.dto.IdeaListing;
 import com.innovatepam.idea.dto.IdeaResponse;
 import com.innovatepam.idea.dto.PageResponse;
 import com.innovatepam.idea.exception.UnauthorizedAccessException;
+import com.innovatepam.idea.model.CountStrategy;
 import com.innovatepam.idea.model.Idea;
+import com.innovatepam.idea.model.IdeaField;
+import com.innovatepam.idea.model.IdeaSortField;
 import com.innovatepam.idea.model.IdeaStatus;
+import com.innovatepam.idea.model.IdeaView;
 import com.innovatepam.idea.service.FileStorageService;
+import com.innovatepam.idea.service.IdeaFacetService;
 import com.innovatepam.idea.service.IdeaService;
+import com.innovatepam.idea.util.IdeaCursor;
+import com.innovatepam.idea.util.IdeaETags;
+import com.innovatepam.idea.util.IdeaFields;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Size;
 
 @RestController
 @RequestMapping("/api/v1/ideas")
 @Validated
 public class IdeaController {
+    // Lets browsers keep the body but forces a conditional request before every reuse
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final IdeaService ideaService;
     private final FileStorageService fileStorageService;
-    private final UserRepository userRepository;
+    private final IdeaFacetService ideaFacetService;
 
     public IdeaController(
         IdeaService ideaService,
         FileStorageService fileStorageService,
-        UserRepository userRepository
+        IdeaFacetService ideaFacetService
     ) {
         this.ideaService = ideaService;
         this.fileStorageService = fileStorageService;
-        this.userRepository = userRepository;
+        this.ideaFacetService = ideaFacetService;
     }
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -59,42 +84,105 @@ public class IdeaController {
         @RequestParam @NotBlank(message = "Description is required") String description,
         @RequestParam @NotBlank(message = "Category is required") @Size(max = 50, message = "Category cannot exceed 50 characters") String category,
         @RequestParam(required = false) MultipartFile file,
-        Authentication authentication
+        @AuthenticationPrincipal AuthenticatedUser principal
     ) {
-        User submitter = getCurrentUser(authentication);
-        IdeaResponse idea = ideaService.createIdea(title, description, category, submitter, file);
+        IdeaResponse idea = ideaService.createIdea(title, description, category, principal.id(), file);
         return ResponseEntity.status(HttpStatus.CREATED).body(idea);
     }
 
     @GetMapping
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<PageResponse<IdeaResponse>> getAllIdeas(
+    public ResponseEntity<PageResponse<?>> getAllIdeas(
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "10") int size,
+        @RequestParam(required = false) Set<IdeaStatus> status,
+        @RequestParam(required = false) Set<String> category,
+        @RequestParam(required = false) UUID submitterId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedFrom,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedTo,
+        @RequestParam(defaultValue = "CREATED_AT") IdeaSortField sortBy,
+        @RequestParam(defaultValue = "DESC") Sort.Direction direction,
+        @RequestParam(defaultValue = "EXACT") CountStrategy countStrategy,
+        @RequestParam(required = false) List<String> fields,
+        WebRequest request
+    ) {
+        IdeaFilter filter = new IdeaFilter(
+            status, category, submitterId, createdFrom, createdTo, updatedFrom, updatedTo
+        );
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy.getProperty()));
+
+        Set<IdeaField> selected = IdeaFields.parse(fields, false);
+
+        IdeaListing listing = ideaService.getIdeasIfModified(filter, pageable, countStrategy, selected,
+            version -> request.checkNotModified(IdeaETags.forListing(filter, pageable, countStrategy, selected, version)));
+        if (listing.page() == null) {
+            // checkNotModified has already set the 304 status and the ETag header
+            return null;
+        }
+        String etag = IdeaETags.forListing(filter, pageable, countStrategy, selected, listing.version());
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(listing.page());
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<PageResponse<IdeaResponse>> searchIdeas(
+        @RequestParam(required = false) @NotBlank(message = "Search query is required") @Size(max = 200, message = "Search query cannot exceed 200 characters") String q,
+        @RequestParam(defaultValue = "0") @Min(value = 0, message = "Page cannot be negative") int page,
+        @RequestParam(defaultValue = "10") @Min(value = 1, message = "Size must be at least 1") @Max(value = 100, message = "Size cannot exceed 100") int size,
         @RequestParam(required = false) IdeaStatus status,
         @RequestParam(required = false) String category
     ) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<IdeaResponse> ideas;
-
-        if (status != null && category != null) {
-            ideas = ideaService.getIdeasByStatusAndCategory(status, category, pageable);
-        } else if (status != null) {
-            ideas = ideaService.getIdeasByStatus(status, pageable);
-        } else if (category != null) {
-            ideas = ideaService.getIdeasByCategory(category, pageable);
-        } else {
-            ideas = ideaService.getIdeas(pageable);
-        }
+        return ResponseEntity.ok(ideaService.searchIdeas(q, status, category, PageRequest.of(page, size)));
+    }
 
-        return ResponseEntity.ok(PageResponse.of(ideas));
+    @GetMapping("/facets")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<IdeaFacetsResponse> getFacets() {
+        return ResponseEntity.ok(ideaFacetService.getFacets());
+    }
+
+    @GetMapping("/scroll")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CursorPageResponse<IdeaResponse>> scrollIdeas(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "10") @Min(value = 1, message = "Size must be at least 1") @Max(value = 100, message = "Size cannot exceed 100") int size,
+        @RequestParam(required = false) IdeaStatus status,
+        @RequestParam(required = false) String category
+    ) {
+        Window<IdeaResponse> ideas = ideaService.scrollIdeas(status, category, IdeaCursor.decode(cursor), size);
+        return ResponseEntity.ok(CursorPageResponse.of(ideas));
+    }
+
+    @GetMapping("/batch")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<IdeaBatchResponse<?>> getIdeasByIds(
+        @RequestParam @NotEmpty(message = "At least one idea id is required") @Size(max = 100, message = "Cannot fetch more than 100 ideas at once") List<Long> ids,
+        @RequestParam(defaultValue = "SUMMARY") IdeaView view
+    ) {
+        if (view == IdeaView.DETAIL) {
+            return ResponseEntity.ok(ideaService.getIdeaDetails(ids));
+        }
+        return ResponseEntity.ok(ideaService.getIdeaSummaries(ids));
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<IdeaDetailResponse> getIdeaById(@PathVariable Long id) {
-        IdeaDetailResponse idea = ideaService.getIdeaDetailById(id);
-        return ResponseEntity.ok(idea);
+    public ResponseEntity<?> getIdeaById(
+        @PathVariable Long id,
+        @RequestParam(required = false) List<String> fields,
+        WebRequest request
+    ) {
+        Set<IdeaField> selected = IdeaFields.parse(fields, true);
+        String etag = IdeaETags.forIdea(id, ideaService.getIdeaVersion(id), selected);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        Object idea = selected == null
+            ? ideaService.getIdeaDetailById(id)
+            : ideaService.getIdeaDetailFields(id, selected);
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(idea);
     }
 
 
@@ -119,16 +207,4 @@ public class IdeaController {
                 "attachment; filename=\"" + idea.getAttachment().getOriginalFilename() + "\"")
             .body(resource);
     }
-
-    private User getCurrentUser(Authentication authentication) {
-        String email = authentication.getName();
-        System.out.println("[DEBUG] Looking up user with email: " + email);
-        User user = userRepository.findByEmail(email)
-            .orElseThrow(() -> {
-                System.err.println("[ERROR] User not found in database: " + email);
-                return new UnauthorizedAccessException("User not found: " + email);
-            });
-        System.out.println("[DEBUG] Found user: ID=" + user.getId() + ", Email=" + user.getEmail());
-        return user;
-    }
 }
@@ -1,49 +1,50 @@
 package com.innovatepam.idea.controller;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.innovatepam.auth.model.User;
-import com.innovatepam.auth.repository.UserRepository;
+import com.innovatepam.auth.security.AuthenticatedUser;
 import com.innovatepam.idea.dto.AddCommentRequest;
+import com.innovatepam.idea.dto.BulkStatusUpdateRequest;
+import com.innovatepam.idea.dto.BulkStatusUpdateResponse;
 import com.innovatepam.idea.dto.EvaluationHistoryResponse;
 import com.innovatepam.idea.dto.IdeaEvaluationResponse;
 import com.innovatepam.idea.dto.IdeaResponse;
 import com.innovatepam.idea.dto.UpdateIdeaStatusRequest;
-import com.innovatepam.idea.exception.UnauthorizedAccessException;
 import com.innovatepam.idea.model.IdeaEvaluation;
 import com.innovatepam.idea.service.IdeaEvaluationService;
 import com.innovatepam.idea.service.IdeaService;
+import com.innovatepam.idea.util.IdeaCursor;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 
 @RestController
 @RequestMapping("/api/v1/ideas")
+@Validated
 public class IdeaEvaluationController {
     private final IdeaService ideaService;
     private final IdeaEvaluationService evaluationService;
-    private final UserRepository userRepository;
 
     public IdeaEvaluationController(
         IdeaService ideaService,
-        IdeaEvaluationService evaluationService,
-        UserRepository userRepository
+        IdeaEvaluationService evaluationService
     ) {
         this.ideaService = ideaService;
         this.evaluationService = evaluationService;
-        this.userRepository = userRepository;
     }
 
     @PatchMapping("/{id}/status")
@@ -51,10 +52,21 @@ public class IdeaEvaluationController {
     public ResponseEntity<IdeaResponse> updateIdeaStatus(
         @PathVariable Long id,
         @Valid @RequestBody UpdateIdeaStatusRequest request,
-        Authentication authentication
+        @AuthenticationPrincipal AuthenticatedUser principal
+    ) {
+        IdeaResponse response = ideaService.updateStatus(id, request.newStatus(), principal.id(), request.comment());
+        return ResponseEntity.ok(response);
+    }
+
+    @PatchMapping("/status")
+    @PreAuthorize("hasAnyRole('EVALUATOR', 'ADMIN')")
+    public ResponseEntity<BulkStatusUpdateResponse> bulkUpdateIdeaStatus(
+        @Valid @RequestBody BulkStatusUpdateRequest request,
+        @AuthenticationPrincipal AuthenticatedUser principal
     ) {
-        User evaluator = getCurrentUser(authentication);
-        IdeaResponse response = ideaService.updateStatus(id, request.newStatus(), evaluator, request.comment());
+        BulkStatusUpdateResponse response = ideaService.bulkUpdateStatus(
+            request.ideaIds(), request.newStatus(), principal.id(), request.comment()
+        );
         return ResponseEntity.ok(response);
     }
 
@@ -63,26 +75,20 @@ public class IdeaEvaluationController {
     public ResponseEntity<IdeaEvaluationResponse> addComment(
         @PathVariable Long id,
         @Valid @RequestBody AddCommentRequest request,
-        Authentication authentication
+        @AuthenticationPrincipal AuthenticatedUser principal
     ) {
-        User evaluator = getCurrentUser(authentication);
-        IdeaEvaluation evaluation = evaluationService.addComment(id, evaluator, request.comment());
+        IdeaEvaluation evaluation = evaluationService.addComment(id, principal.id(), request.comment());
         return ResponseEntity.status(HttpStatus.CREATED).body(IdeaEvaluationResponse.from(evaluation));
     }
 
     @GetMapping("/{id}/evaluations")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<EvaluationHistoryResponse> getEvaluationHistory(@PathVariable Long id) {
-        List<IdeaEvaluation> evaluations = evaluationService.getEvaluationHistory(id);
-        List<IdeaEvaluationResponse> responses = evaluations.stream()
-            .map(IdeaEvaluationResponse::from)
-            .collect(Collectors.toList());
-        return ResponseEntity.ok(new EvaluationHistoryResponse(id, responses));
-    }
-
-    private User getCurrentUser(Authentication authentication) {
-        String email = authentication.getName();
-        return userRepository.findByEmail(email)
-            .orElseThrow(() -> new UnauthorizedAccessException("User not found"));
+    public ResponseEntity<EvaluationHistoryResponse> getEvaluationHistory(
+        @PathVariable Long id,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") @Min(value = 1, message = "Size must be at least 1") @Max(value = 100, message = "Size cannot exceed 100") int size
+    ) {
+        Window<IdeaEvaluation> evaluations = evaluationService.getEvaluationHistory(id, IdeaCursor.decode(cursor), size);
+        return ResponseEntity.ok(EvaluationHistoryResponse.of(id, evaluations));
     }
 }
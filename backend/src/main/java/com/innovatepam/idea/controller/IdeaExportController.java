@@ -0,0 +1,55 @@
+package com.innovatepam.idea.controller;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.innovatepam.idea.model.ExportFormat;
+import com.innovatepam.idea.service.IdeaExportService;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+@RestController
+@RequestMapping("/api/v1/ideas/export")
+public class IdeaExportController {
+    private final IdeaExportService ideaExportService;
+
+    public IdeaExportController(IdeaExportService ideaExportService) {
+        this.ideaExportService = ideaExportService;
+    }
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('EVALUATOR', 'ADMIN')")
+    public void exportIdeas(
+        @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+        HttpServletResponse response
+    ) throws IOException {
+        prepareResponse(response, format, "ideas");
+        ideaExportService.exportIdeas(format, response.getOutputStream());
+    }
+
+    @GetMapping("/evaluations")
+    @PreAuthorize("hasAnyRole('EVALUATOR', 'ADMIN')")
+    public void exportEvaluations(
+        @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+        HttpServletResponse response
+    ) throws IOException {
+        prepareResponse(response, format, "idea-evaluations");
+        ideaExportService.exportEvaluations(format, response.getOutputStream());
+    }
+
+    private void prepareResponse(HttpServletResponse response, ExportFormat format, String name) {
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(
+            HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"" + name + "." + format.getFileExtension() + "\""
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.innovatepam.idea.controller;
+
+import java.io.IOException;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.innovatepam.idea.dto.IdeaImportResponse;
+import com.innovatepam.idea.model.ExportFormat;
+import com.innovatepam.idea.service.IdeaImportService;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+@RestController
+@RequestMapping("/api/v1/ideas/import")
+public class IdeaImportController {
+    private final IdeaImportService ideaImportService;
+
+    public IdeaImportController(IdeaImportService ideaImportService) {
+        this.ideaImportService = ideaImportService;
+    }
+
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<IdeaImportResponse> importIdeas(
+        @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+        HttpServletRequest request
+    ) throws IOException {
+        return ResponseEntity.ok(ideaImportService.importIdeas(format, request.getInputStream()));
+    }
+}
@@ -0,0 +1,20 @@
+package com.innovatepam.idea.dto;
+
+import java.util.List;
+
+import com.innovatepam.idea.model.IdeaStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record BulkStatusUpdateRequest(
+    @NotEmpty(message = "At least one idea id is required")
+    @Size(max = 1000, message = "Cannot update more than 1000 ideas at once")
+    List<@NotNull(message = "Idea id cannot be null") Long> ideaIds,
+
+    @NotNull(message = "New status is required")
+    IdeaStatus newStatus,
+
+    @Size(max = 5000, message = "Comment cannot exceed 5000 characters")
+    String comment
+) {}
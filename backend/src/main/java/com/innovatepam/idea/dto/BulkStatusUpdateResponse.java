@@ -0,0 +1,12 @@
+package com.innovatepam.idea.dto;
+
+import java.util.List;
+
+import com.innovatepam.idea.model.IdeaStatus;
+
+public record BulkStatusUpdateResponse(
+    IdeaStatus newStatus,
+    int updated,
+    int failed,
+    List<BulkStatusUpdateResult> results
+) {}
@@ -0,0 +1,11 @@
+package com.innovatepam.idea.dto;
+
+import com.innovatepam.idea.model.BulkStatusOutcome;
+import com.innovatepam.idea.model.IdeaStatus;
+
+public record BulkStatusUpdateResult(
+    Long ideaId,
+    BulkStatusOutcome outcome,
+    IdeaStatus status,
+    String message
+) {}
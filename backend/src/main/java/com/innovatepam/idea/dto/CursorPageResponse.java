@@ -0,0 +1,26 @@
+package com.innovatepam.idea.dto;
+
+import java.util.List;
+
+import org.springframework.data.domain.Window;
+
+import com.innovatepam.idea.util.IdeaCursor;
+
+public record CursorPageResponse<T>(
+    List<T> content,
+    int size,
+    boolean hasNext,
+    String nextCursor
+) {
+    public static <T> CursorPageResponse<T> of(Window<T> window) {
+        String nextCursor = window.hasNext() && !window.isEmpty()
+            ? IdeaCursor.encode(window.positionAt(window.size() - 1))
+            : null;
+        return new CursorPageResponse<>(
+            window.getContent(),
+            window.size(),
+            window.hasNext(),
+            nextCursor
+        );
+    }
+}
@@ -2,7 +2,26 @@ package com.innovatepam.idea.dto;
 
 import java.util.List;
 
+import org.springframework.data.domain.Window;
+
+import com.innovatepam.idea.model.IdeaEvaluation;
+import com.innovatepam.idea.util.IdeaCursor;
+
 public record EvaluationHistoryResponse(
     Long ideaId,
-    List<IdeaEvaluationResponse> evaluations
-) {}
+    List<IdeaEvaluationResponse> evaluations,
+    boolean hasNext,
+    String nextCursor
+) {
+    public static EvaluationHistoryResponse of(Long ideaId, Window<IdeaEvaluation> window) {
+        String nextCursor = window.hasNext() && !window.isEmpty()
+            ? IdeaCursor.encode(window.positionAt(window.size() - 1))
+            : null;
+        return new EvaluationHistoryResponse(
+            ideaId,
+            window.getContent().stream().map(IdeaEvaluationResponse::from).toList(),
+            window.hasNext(),
+            nextCursor
+        );
+    }
+}
@@ -0,0 +1,9 @@
+package com.innovatepam.idea.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public record IdeaBatchResponse<T>(
+    Map<Long, T> ideas,
+    List<Long> missingIds
+) {}
@@ -0,0 +1,9 @@
+package com.innovatepam.idea.dto;
+
+import com.innovatepam.idea.model.CountStrategy;
+
+public record IdeaCount(
+    long total,
+    CountStrategy strategy,
+    boolean exact
+) {}
@@ -4,7 +4,6 @@ import com.innovatepam.idea.model.Idea;
 import com.innovatepam.idea.model.IdeaStatus;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public record IdeaDetailResponse(
     Long id,
@@ -16,9 +15,10 @@ public record IdeaDetailResponse(
     LocalDateTime createdAt,
     LocalDateTime updatedAt,
     FileMetadataResponse attachment,
-    List<IdeaEvaluationResponse> evaluations
+    List<IdeaEvaluationResponse> evaluations,
+    String evaluationsCursor
 ) {
-    public static IdeaDetailResponse from(Idea idea) {
+    public static IdeaDetailResponse from(Idea idea, LatestEvaluations latest) {
         return new IdeaDetailResponse(
             idea.getId(),
             idea.getTitle(),
@@ -29,11 +29,8 @@ public record IdeaDetailResponse(
             idea.getCreatedAt(),
             idea.getUpdatedAt(),
             idea.getAttachment() != null ? FileMetadataResponse.from(idea.getAttachment()) : null,
-            idea.getEvaluations() != null 
-                ? idea.getEvaluations().stream()
-                    .map(IdeaEvaluationResponse::from)
-                    .collect(Collectors.toList())
-                : List.of()
+            latest.evaluations(),
+            latest.nextCursor()
         );
     }
 }
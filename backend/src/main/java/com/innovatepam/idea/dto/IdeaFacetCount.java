@@ -0,0 +1,9 @@
+package com.innovatepam.idea.dto;
+
+import com.innovatepam.idea.model.IdeaStatus;
+
+public record IdeaFacetCount(
+    String category,
+    IdeaStatus status,
+    long count
+) {}
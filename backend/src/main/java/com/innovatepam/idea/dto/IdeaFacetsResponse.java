@@ -0,0 +1,14 @@
+package com.innovatepam.idea.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+import com.innovatepam.idea.model.IdeaStatus;
+
+public record IdeaFacetsResponse(
+    Map<String, Map<IdeaStatus, Long>> matrix,
+    Map<IdeaStatus, Long> statusTotals,
+    Map<String, Long> categoryTotals,
+    long total,
+    Instant reconciledAt
+) {}
@@ -0,0 +1,58 @@
+package com.innovatepam.idea.dto;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import com.innovatepam.idea.model.IdeaStatus;
+
+/**
+ * Criteria for the idea listing. Empty sets and null values mean "no restriction"; date ranges are inclusive.
+ */
+public record IdeaFilter(
+    Set<IdeaStatus> statuses,
+    Set<String> categories,
+    UUID submitterId,
+    LocalDateTime createdFrom,
+    LocalDateTime createdTo,
+    LocalDateTime updatedFrom,
+    LocalDateTime updatedTo
+) {
+    public IdeaFilter {
+        statuses = statuses == null ? Set.of() : statuses.stream()
+            .filter(status -> status != null)
+            .collect(Collectors.toUnmodifiableSet());
+        categories = categories == null ? Set.of() : categories.stream()
+            .filter(category -> category != null && !category.isBlank())
+            .map(String::trim)
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public static IdeaFilter none() {
+        return new IdeaFilter(null, null, null, null, null, null, null);
+    }
+
+    public static IdeaFilter of(Collection<IdeaStatus> statuses, Collection<String> categories) {
+        return new IdeaFilter(
+            statuses == null ? null : Set.copyOf(statuses),
+            categories == null ? null : Set.copyOf(categories),
+            null, null, null, null, null
+        );
+    }
+
+    public boolean isEmpty() {
+        return statuses.isEmpty() && categories.isEmpty() && submitterId == null
+            && createdFrom == null && createdTo == null && updatedFrom == null && updatedTo == null;
+    }
+
+    /**
+     * Whether an idea in the given category and status could fall inside this filter. Only status and
+     * category are considered, so the answer errs on the side of "yes".
+     */
+    public boolean mayMatch(String category, IdeaStatus status) {
+        return (statuses.isEmpty() || statuses.contains(status))
+            && (categories.isEmpty() || categories.contains(category));
+    }
+}
@@ -0,0 +1,7 @@
+package com.innovatepam.idea.dto;
+
+public record IdeaImportError(
+    long row,
+    String field,
+    String message
+) {}
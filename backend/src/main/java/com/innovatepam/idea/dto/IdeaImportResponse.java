@@ -0,0 +1,11 @@
+package com.innovatepam.idea.dto;
+
+import java.util.List;
+
+public record IdeaImportResponse(
+    long totalRows,
+    long importedRows,
+    long rejectedRows,
+    boolean errorsTruncated,
+    List<IdeaImportError> errors
+) {}
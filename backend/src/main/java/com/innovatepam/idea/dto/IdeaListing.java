@@ -0,0 +1,11 @@
+package com.innovatepam.idea.dto;
+
+/**
+ * A listing page together with the listing version it was read at.
+ *
+ * @param page The page, or null when the caller's copy at this version is still current
+ */
+public record IdeaListing(
+    IdeaListingVersion version,
+    PageResponse<?> page
+) {}
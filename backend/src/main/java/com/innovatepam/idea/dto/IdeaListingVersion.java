@@ -0,0 +1,11 @@
+package com.innovatepam.idea.dto;
+
+/**
+ * Version of the idea listings, read from the idea_listing_version row.
+ *
+ * @param changeCount Number of committed statements that changed ideas or a submitter's email; database
+ *                    triggers advance it in the same transaction as the change
+ */
+public record IdeaListingVersion(
+    long changeCount
+) {}
@@ -28,8 +28,8 @@ public record IdeaResponse(
             idea.getSubmitter().getId(),
             idea.getCreatedAt(),
             idea.getUpdatedAt(),
-            idea.getAttachment() != null,
-            idea.getEvaluations() != null ? idea.getEvaluations().size() : 0
+            idea.hasAttachment(),
+            idea.getEvaluationCount()
         );
     }
 }
@@ -0,0 +1,33 @@
+package com.innovatepam.idea.dto;
+
+import java.util.List;
+
+import com.innovatepam.idea.model.IdeaEvaluation;
+import com.innovatepam.idea.util.IdeaCursor;
+
+/**
+ * The newest evaluations of an idea as embedded in its detail view, with a cursor for the
+ * evaluation history endpoint when older ones remain.
+ */
+public record LatestEvaluations(
+    List<IdeaEvaluationResponse> evaluations,
+    String nextCursor
+) {
+    public static final LatestEvaluations NONE = new LatestEvaluations(List.of(), null);
+
+    /**
+     * @param newestFirst Evaluations sorted newest first; one more than {@code limit} signals older ones
+     * @param limit Number of evaluations to embed
+     */
+    public static LatestEvaluations of(List<IdeaEvaluation> newestFirst, int limit) {
+        if (newestFirst.size() <= limit) {
+            return new LatestEvaluations(newestFirst.stream().map(IdeaEvaluationResponse::from).toList(), null);
+        }
+        List<IdeaEvaluation> page = newestFirst.subList(0, limit);
+        IdeaEvaluation last = page.get(limit - 1);
+        return new LatestEvaluations(
+            page.stream().map(IdeaEvaluationResponse::from).toList(),
+            IdeaCursor.encode(last.getCreatedAt(), last.getId())
+        );
+    }
+}
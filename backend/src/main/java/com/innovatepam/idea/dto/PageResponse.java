@@ -2,18 +2,30 @@ package com.innovatepam.idea.dto;
 
 import org.springframework.data.domain.Page;
 
+import com.innovatepam.idea.model.CountStrategy;
+
 public record PageResponse<T>(
     java.util.List<T> content,
     PageableInfo pageable
 ) {
     public static <T> PageResponse<T> of(Page<T> page) {
+        return of(page, CountStrategy.EXACT, true);
+    }
+
+    public static <T> PageResponse<T> of(Page<T> page, IdeaCount count) {
+        return of(page, count.strategy(), count.exact());
+    }
+
+    private static <T> PageResponse<T> of(Page<T> page, CountStrategy countStrategy, boolean exactTotal) {
         return new PageResponse<>(
             page.getContent(),
             new PageableInfo(
                 page.getNumber(),
                 page.getSize(),
                 page.getTotalElements(),
-                page.getTotalPages()
+                page.getTotalPages(),
+                countStrategy,
+                exactTotal
             )
         );
     }
@@ -22,6 +34,8 @@ public record PageResponse<T>(
         int pageNumber,
         int pageSize,
         long totalElements,
-        int totalPages
+        int totalPages,
+        CountStrategy countStrategy,
+        boolean exactTotal
     ) {}
 }
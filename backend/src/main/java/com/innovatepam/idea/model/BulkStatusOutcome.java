@@ -0,0 +1,14 @@
+package com.innovatepam.idea.model;
+
+/**
+ * Per-idea result of a bulk status transition.
+ * 
+ * - UPDATED: the idea moved to the target status and an evaluation was recorded
+ * - NOT_FOUND: no idea exists with the given id
+ * - CONFLICT: the idea's current status does not allow the transition
+ */
+public enum BulkStatusOutcome {
+    UPDATED,
+    NOT_FOUND,
+    CONFLICT
+}
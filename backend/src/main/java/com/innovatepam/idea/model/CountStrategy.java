@@ -0,0 +1,14 @@
+package com.innovatepam.idea.model;
+
+/**
+ * How the total number of matching ideas is obtained for a paginated listing.
+ * 
+ * - EXACT: runs count(*) for the filter on every request
+ * - CACHED: reuses a per-filter count until ideas are created or change status
+ * - ESTIMATED: reads the planner's row estimate from Postgres statistics
+ */
+public enum CountStrategy {
+    EXACT,
+    CACHED,
+    ESTIMATED
+}
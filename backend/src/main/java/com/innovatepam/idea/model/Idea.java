@@ -22,6 +22,7 @@ import jakarta.persistence.OneToOne;
 import jakarta.persistence.OrderBy;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
@@ -32,7 +33,8 @@ import jakarta.validation.constraints.Size;
 @Table(name = "ideas")
 public class Idea {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ideas_id_seq")
+    @SequenceGenerator(name = "ideas_id_seq", sequenceName = "ideas_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Title is required")
@@ -44,7 +46,8 @@ public class Idea {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String description;
 
-    @NotNull(message = "Category is required")
+    @NotBlank(message = "Category is required")
+    @Size(max = 50, message = "Category cannot exceed 50 characters")
     @Column(nullable = false, length = 50)
     private String category;
 
@@ -64,6 +67,13 @@ public class Idea {
     @OrderBy("createdAt ASC")
     private List<IdeaEvaluation> evaluations = new ArrayList<>();
 
+    // Denormalized for listing: maintained by IdeaService and IdeaEvaluationService
+    @Column(name = "evaluation_count", nullable = false)
+    private int evaluationCount;
+
+    @Column(name = "has_attachment", nullable = false)
+    private boolean hasAttachment;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
@@ -159,6 +169,22 @@ public class Idea {
         evaluation.setIdea(this);
     }
 
+    public int getEvaluationCount() {
+        return evaluationCount;
+    }
+
+    public void setEvaluationCount(int evaluationCount) {
+        this.evaluationCount = evaluationCount;
+    }
+
+    public boolean hasAttachment() {
+        return hasAttachment;
+    }
+
+    public void setHasAttachment(boolean hasAttachment) {
+        this.hasAttachment = hasAttachment;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,46 @@
+package com.innovatepam.idea.model;
+
+/**
+ * Fields a client can request with the {@code fields} parameter of the idea listing and detail endpoints.
+ * 
+ * Column fields map to an entity property and are selected individually, so only the requested columns
+ * are read. ATTACHMENT and EVALUATIONS are nested collections that only the detail endpoint can return.
+ */
+public enum IdeaField {
+    ID("id", "id"),
+    TITLE("title", "title"),
+    DESCRIPTION("description", "description"),
+    CATEGORY("category", "category"),
+    STATUS("status", "status"),
+    SUBMITTER_NAME("submitterName", "submitter.email"),
+    SUBMITTER_ID("submitterId", "submitter.id"),
+    CREATED_AT("createdAt", "createdAt"),
+    UPDATED_AT("updatedAt", "updatedAt"),
+    HAS_ATTACHMENT("hasAttachment", "hasAttachment"),
+    EVALUATION_COUNT("evaluationCount", "evaluationCount"),
+    ATTACHMENT("attachment", null),
+    EVALUATIONS("evaluations", null);
+
+    private final String jsonName;
+    private final String property;
+
+    IdeaField(String jsonName, String property) {
+        this.jsonName = jsonName;
+        this.property = property;
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    /**
+     * @return Dotted entity property path, or null for nested fields
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    public boolean isColumn() {
+        return property != null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.innovatepam.idea.model;
+
+/**
+ * Sort keys accepted by the idea listing. Each maps to an entity property that has a supporting index;
+ * ties are always broken by id in the same direction so paging is stable.
+ */
+public enum IdeaSortField {
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    TITLE("title");
+
+    private final String property;
+
+    IdeaSortField(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+}
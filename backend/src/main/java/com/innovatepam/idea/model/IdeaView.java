@@ -0,0 +1,12 @@
+package com.innovatepam.idea.model;
+
+/**
+ * Representation returned by the multi-get endpoint.
+ * 
+ * - SUMMARY: listing rows ({@code IdeaResponse}) read by a single projection query
+ * - DETAIL: full ideas with attachment and latest evaluations ({@code IdeaDetailResponse})
+ */
+public enum IdeaView {
+    SUMMARY,
+    DETAIL
+}
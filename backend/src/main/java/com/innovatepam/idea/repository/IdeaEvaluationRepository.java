@@ -1,16 +1,37 @@
 package com.innovatepam.idea.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.innovatepam.idea.model.IdeaEvaluation;
 
 @Repository
 public interface IdeaEvaluationRepository extends JpaRepository<IdeaEvaluation, Long> {
-    List<IdeaEvaluation> findByIdeaIdOrderByCreatedAtAsc(Long ideaId);
+    // Keyset scrolling over one idea's history, served by idx_idea_evaluations_idea_created_at
+    @EntityGraph(attributePaths = {"evaluator", "evaluator.role"})
+    Window<IdeaEvaluation> findByIdeaId(Long ideaId, ScrollPosition position, Limit limit, Sort sort);
+
+    // Newest evaluations per idea: the lateral subquery stops after :limit index entries for each idea
+    @Query(value = "select e.id from ideas i cross join lateral ("
+        + "select le.id from idea_evaluations le where le.idea_id = i.id "
+        + "order by le.created_at desc, le.id desc limit :limit) e "
+        + "where i.id in (:ideaIds)", nativeQuery = true)
+    List<Long> findLatestIdsByIdeaIdIn(@Param("ideaIds") Collection<Long> ideaIds, @Param("limit") int limit);
+
+    @EntityGraph(attributePaths = {"evaluator", "evaluator.role"})
+    @Query("select e from IdeaEvaluation e where e.id in :ids order by e.createdAt desc, e.id desc")
+    List<IdeaEvaluation> findWithEvaluatorByIdIn(@Param("ids") Collection<Long> ids);
 
     List<IdeaEvaluation> findByEvaluatorId(UUID evaluatorId);
 }
@@ -0,0 +1,36 @@
+package com.innovatepam.idea.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.domain.Pageable;
+
+import com.innovatepam.idea.dto.IdeaFilter;
+import com.innovatepam.idea.dto.IdeaResponse;
+import com.innovatepam.idea.model.IdeaField;
+
+/**
+ * Listing queries composed from an {@link IdeaFilter}; only the criteria that are set become predicates.
+ */
+public interface IdeaQueryRepository {
+
+    /**
+     * Returns one page of listing rows. Sort properties come from the pageable and are tie-broken by id.
+     */
+    List<IdeaResponse> findResponses(IdeaFilter filter, Pageable pageable);
+
+    /**
+     * Sparse variant of {@link #findResponses}: selects only the columns of the given fields and joins
+     * the submitter only when its name is requested. Rows are keyed by JSON field name.
+     */
+    List<Map<String, Object>> findFields(IdeaFilter filter, Pageable pageable, Set<IdeaField> fields);
+
+    /**
+     * Selects only the columns of the given fields for a single idea. Fields must all be column fields.
+     */
+    Optional<Map<String, Object>> findFieldsById(Long id, Set<IdeaField> fields);
+
+    long countMatching(IdeaFilter filter);
+}
@@ -0,0 +1,170 @@
+package com.innovatepam.idea.repository;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.innovatepam.auth.model.User;
+import com.innovatepam.idea.dto.IdeaFilter;
+import com.innovatepam.idea.dto.IdeaResponse;
+import com.innovatepam.idea.model.Idea;
+import com.innovatepam.idea.model.IdeaField;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+class IdeaQueryRepositoryImpl implements IdeaQueryRepository {
+    private final EntityManager entityManager;
+
+    IdeaQueryRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<IdeaResponse> findResponses(IdeaFilter filter, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<IdeaResponse> query = cb.createQuery(IdeaResponse.class);
+        Root<Idea> idea = query.from(Idea.class);
+        Join<Idea, User> submitter = idea.join("submitter");
+
+        // Listing rows only need the submitter joined; counters are denormalized on ideas
+        query.select(cb.construct(
+            IdeaResponse.class,
+            idea.get("id"),
+            idea.get("title"),
+            idea.get("category"),
+            idea.get("status"),
+            submitter.get("email"),
+            submitter.get("id"),
+            idea.get("createdAt"),
+            idea.get("updatedAt"),
+            idea.get("hasAttachment"),
+            idea.get("evaluationCount")
+        ));
+        query.where(predicates(cb, idea, filter));
+        query.orderBy(orders(cb, idea, pageable.getSort()));
+
+        return entityManager.createQuery(query)
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize())
+            .getResultList();
+    }
+
+    @Override
+    public List<Map<String, Object>> findFields(IdeaFilter filter, Pageable pageable, Set<IdeaField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Idea> idea = query.from(Idea.class);
+        List<IdeaField> selected = List.copyOf(EnumSet.copyOf(fields));
+        query.multiselect(selected.stream().<Selection<?>>map(field -> path(idea, field)).toList());
+        query.where(predicates(cb, idea, filter));
+        query.orderBy(orders(cb, idea, pageable.getSort()));
+
+        return entityManager.createQuery(query)
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize())
+            .getResultList()
+            .stream()
+            .map(row -> toMap(selected, row))
+            .toList();
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findFieldsById(Long id, Set<IdeaField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Idea> idea = query.from(Idea.class);
+        List<IdeaField> selected = List.copyOf(EnumSet.copyOf(fields));
+        query.multiselect(selected.stream().<Selection<?>>map(field -> path(idea, field)).toList());
+        query.where(cb.equal(idea.get("id"), id));
+
+        return entityManager.createQuery(query).getResultStream().findFirst().map(row -> toMap(selected, row));
+    }
+
+    @Override
+    public long countMatching(IdeaFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Idea> idea = query.from(Idea.class);
+        query.select(cb.count(idea));
+        query.where(predicates(cb, idea, filter));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Resolves a dotted property path. Hibernate turns submitter.id into the foreign key column and
+     * submitter.email into an inner join, so the users table is only read when the name is selected.
+     */
+    private static Path<?> path(Root<Idea> idea, IdeaField field) {
+        if (!field.isColumn()) {
+            throw new IllegalArgumentException("Field " + field.getJsonName() + " is not a column");
+        }
+        Path<?> path = idea;
+        for (String property : field.getProperty().split("\\.")) {
+            path = path.get(property);
+        }
+        return path;
+    }
+
+    private static Map<String, Object> toMap(List<IdeaField> fields, Tuple row) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            values.put(fields.get(i).getJsonName(), row.get(i));
+        }
+        return values;
+    }
+
+    private static Predicate[] predicates(CriteriaBuilder cb, Root<Idea> idea, IdeaFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (!filter.statuses().isEmpty()) {
+            predicates.add(idea.get("status").in(filter.statuses()));
+        }
+        if (!filter.categories().isEmpty()) {
+            predicates.add(idea.get("category").in(filter.categories()));
+        }
+        if (filter.submitterId() != null) {
+            predicates.add(cb.equal(idea.get("submitter").get("id"), filter.submitterId()));
+        }
+        if (filter.createdFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(idea.get("createdAt"), filter.createdFrom()));
+        }
+        if (filter.createdTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(idea.get("createdAt"), filter.createdTo()));
+        }
+        if (filter.updatedFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(idea.get("updatedAt"), filter.updatedFrom()));
+        }
+        if (filter.updatedTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(idea.get("updatedAt"), filter.updatedTo()));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    private static List<Order> orders(CriteriaBuilder cb, Root<Idea> idea, Sort sort) {
+        List<Order> orders = new ArrayList<>();
+        Sort.Direction tieBreak = Sort.Direction.DESC;
+        for (Sort.Order order : sort) {
+            orders.add(order.isAscending() ? cb.asc(idea.get(order.getProperty())) : cb.desc(idea.get(order.getProperty())));
+            tieBreak = order.getDirection();
+        }
+        if (sort.getOrderFor("id") == null) {
+            orders.add(tieBreak.isAscending() ? cb.asc(idea.get("id")) : cb.desc(idea.get("id")));
+        }
+        return orders;
+    }
+}
@@ -1,18 +1,74 @@
 package com.innovatepam.idea.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.innovatepam.idea.dto.IdeaFacetCount;
+import com.innovatepam.idea.dto.IdeaResponse;
 import com.innovatepam.idea.model.Idea;
 import com.innovatepam.idea.model.IdeaStatus;
 
 @Repository
-public interface IdeaRepository extends JpaRepository<Idea, Long> {
+public interface IdeaRepository extends JpaRepository<Idea, Long>, IdeaQueryRepository, IdeaSearchRepository {
+    // Detail fetch plan: idea, submitter and attachment in a single statement. Evaluations are not part of
+    // it because the detail view only embeds the latest few, see IdeaEvaluationRepository.
+    @EntityGraph(attributePaths = {
+        "submitter",
+        "submitter.role",
+        "attachment"
+    })
+    @Query("select i from Idea i where i.id = :id")
+    Optional<Idea> findDetailById(@Param("id") Long id);
+
+    @Query("select coalesce(i.version, 0) from Idea i where i.id = :id")
+    Optional<Integer> findVersionById(@Param("id") Long id);
+
+    // Single-row counter advanced by database triggers on every statement that writes ideas, see V16
+    @Query(value = "select change_count from idea_listing_version", nativeQuery = true)
+    long findListingVersion();
+
+    // A bulk update takes the row lock instead of checking @Version, so concurrent comments on one idea
+    // never conflict. It still bumps the version, which the detail ETag is built from, and updated_at.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Idea i set i.evaluationCount = i.evaluationCount + 1, i.version = coalesce(i.version, 0) + 1, "
+        + "i.updatedAt = :updatedAt where i.id = :id")
+    int incrementEvaluationCount(@Param("id") Long id, @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Multi-get and bulk transitions: same detail fetch plan as findDetailById, for a whole id list in one
+    // statement instead of one select per idea
+    @EntityGraph(attributePaths = {
+        "submitter",
+        "submitter.role",
+        "attachment"
+    })
+    @Query("select i from Idea i where i.id in :ids")
+    List<Idea> findDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select new com.innovatepam.idea.dto.IdeaResponse("
+        + "i.id, i.title, i.category, i.status, s.email, s.id, i.createdAt, i.updatedAt, i.hasAttachment, i.evaluationCount) "
+        + "from Idea i join i.submitter s where i.id in :ids")
+    List<IdeaResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select new com.innovatepam.idea.dto.IdeaFacetCount(i.category, i.status, count(i)) "
+        + "from Idea i group by i.category, i.status")
+    List<IdeaFacetCount> findFacetCounts();
+
     Page<Idea> findByStatus(IdeaStatus status, Pageable pageable);
 
     List<Idea> findByStatus(IdeaStatus status);
@@ -26,4 +82,18 @@ public interface IdeaRepository extends JpaRepository<Idea, Long> {
     Page<Idea> findByCategoryAndStatus(String category, IdeaStatus status, Pageable pageable);
 
     List<Idea> findByCategoryAndStatus(String category, IdeaStatus status);
+
+    // Keyset scrolling: seeks past the last (createdAt, id) instead of OFFSET and never issues a count query
+    // The attachment is fetched with the page because Hibernate always loads the inverse one-to-one side.
+    @EntityGraph(attributePaths = {"submitter", "submitter.role", "attachment"})
+    Window<Idea> findAllBy(ScrollPosition position, Limit limit, Sort sort);
+
+    @EntityGraph(attributePaths = {"submitter", "submitter.role", "attachment"})
+    Window<Idea> findByStatus(IdeaStatus status, ScrollPosition position, Limit limit, Sort sort);
+
+    @EntityGraph(attributePaths = {"submitter", "submitter.role", "attachment"})
+    Window<Idea> findByCategory(String category, ScrollPosition position, Limit limit, Sort sort);
+
+    @EntityGraph(attributePaths = {"submitter", "submitter.role", "attachment"})
+    Window<Idea> findByCategoryAndStatus(String category, IdeaStatus status, ScrollPosition position, Limit limit, Sort sort);
 }
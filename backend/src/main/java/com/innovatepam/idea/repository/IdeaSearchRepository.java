@@ -0,0 +1,21 @@
+package com.innovatepam.idea.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.innovatepam.idea.dto.IdeaResponse;
+import com.innovatepam.idea.model.IdeaStatus;
+
+/**
+ * Full-text search over idea title and description, backed by the generated
+ * {@code ideas.search_vector} column and its GIN index.
+ */
+public interface IdeaSearchRepository {
+
+    /**
+     * Returns ideas matching the web-search style query, best rank first, optionally narrowed
+     * by status and/or category. The pageable's sort is ignored; results are ordered by rank
+     * with newest-first as the tie breaker.
+     */
+    Page<IdeaResponse> search(String query, IdeaStatus status, String category, Pageable pageable);
+}
@@ -0,0 +1,90 @@
+package com.innovatepam.idea.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.innovatepam.idea.dto.IdeaResponse;
+import com.innovatepam.idea.model.IdeaStatus;
+
+class IdeaSearchRepositoryImpl implements IdeaSearchRepository {
+    // The match is driven by the GIN index on search_vector; the window count rides along with the
+    // ranked page so a normal search is a single statement.
+    private static final String FROM_MATCHES = " FROM ideas i"
+        + " JOIN users u ON u.id = i.submitter_id"
+        + " CROSS JOIN websearch_to_tsquery('english', :query) q"
+        + " WHERE i.search_vector @@ q";
+
+    private static final String SELECT_PAGE = "SELECT i.id, i.title, i.category, i.status,"
+        + " u.email AS submitter_email, u.id AS submitter_id, i.created_at, i.updated_at,"
+        + " i.has_attachment, i.evaluation_count, count(*) OVER () AS total_matches"
+        + FROM_MATCHES;
+
+    private static final String ORDER_BY_RANK =
+        " ORDER BY ts_rank_cd(i.search_vector, q) DESC, i.created_at DESC, i.id DESC"
+        + " LIMIT :limit OFFSET :offset";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    IdeaSearchRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Page<IdeaResponse> search(String query, IdeaStatus status, String category, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource("query", query);
+        String filters = filters(status, category, params);
+        params.addValue("limit", pageable.getPageSize());
+        params.addValue("offset", pageable.getOffset());
+
+        long[] total = {0};
+        List<IdeaResponse> content = new ArrayList<>();
+        jdbcTemplate.query(SELECT_PAGE + filters + ORDER_BY_RANK, params, rs -> {
+            total[0] = rs.getLong("total_matches");
+            content.add(mapRow(rs));
+        });
+
+        // Past the last match the window count is unavailable, so count separately
+        if (content.isEmpty() && pageable.getOffset() > 0) {
+            Long matches = jdbcTemplate.queryForObject("SELECT count(*)" + FROM_MATCHES + filters, params, Long.class);
+            total[0] = matches == null ? 0 : matches;
+        }
+        return new PageImpl<>(content, pageable, total[0]);
+    }
+
+    private static String filters(IdeaStatus status, String category, MapSqlParameterSource params) {
+        StringBuilder filters = new StringBuilder();
+        if (status != null) {
+            filters.append(" AND i.status = :status");
+            params.addValue("status", status.name());
+        }
+        if (category != null) {
+            filters.append(" AND i.category = :category");
+            params.addValue("category", category);
+        }
+        return filters.toString();
+    }
+
+    private static IdeaResponse mapRow(ResultSet rs) throws SQLException {
+        return new IdeaResponse(
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getString("category"),
+            IdeaStatus.valueOf(rs.getString("status")),
+            rs.getString("submitter_email"),
+            rs.getObject("submitter_id", UUID.class),
+            rs.getTimestamp("created_at").toLocalDateTime(),
+            rs.getTimestamp("updated_at").toLocalDateTime(),
+            rs.getBoolean("has_attachment"),
+            rs.getInt("evaluation_count")
+        );
+    }
+}
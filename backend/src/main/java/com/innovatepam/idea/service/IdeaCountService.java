@@ -0,0 +1,177 @@
+package com.innovatepam.idea.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innovatepam.idea.dto.IdeaCount;
+import com.innovatepam.idea.dto.IdeaFilter;
+import com.innovatepam.idea.model.CountStrategy;
+import com.innovatepam.idea.model.IdeaStatus;
+import com.innovatepam.idea.repository.IdeaRepository;
+
+/**
+ * Produces the total element count for idea listings using the requested {@link CountStrategy}.
+ * 
+ * Cached counts are keyed by the full listing filter and evicted after the transaction that
+ * creates an idea or changes its status commits. Estimated counts come from pg_class.reltuples for
+ * the unfiltered listing and from the planner's row estimate for filtered listings; when Postgres
+ * has no statistics yet the exact count is used instead.
+ */
+@Service
+public class IdeaCountService {
+    private static final String TABLE_ESTIMATE_SQL =
+        "SELECT reltuples::bigint FROM pg_class WHERE oid = 'ideas'::regclass";
+    private static final int MAX_CACHED_FILTERS = 1_000;
+    private static final String EXPLAIN_PREFIX = "EXPLAIN (FORMAT JSON) SELECT 1 FROM ideas WHERE ";
+
+    private final IdeaRepository ideaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final long cacheTtlNanos;
+    private final Map<IdeaFilter, CachedCount> cache = new ConcurrentHashMap<>();
+
+    public IdeaCountService(
+        IdeaRepository ideaRepository,
+        JdbcTemplate jdbcTemplate,
+        ObjectMapper objectMapper,
+        @Value("${idea.listing.count-cache-ttl:PT5M}") Duration cacheTtl
+    ) {
+        this.ideaRepository = ideaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.cacheTtlNanos = cacheTtl.toNanos();
+    }
+
+    public IdeaCount count(IdeaFilter filter, CountStrategy strategy) {
+        CountStrategy effective = strategy == null ? CountStrategy.EXACT : strategy;
+        switch (effective) {
+            case CACHED:
+                return cachedCount(filter);
+            case ESTIMATED:
+                return estimatedCount(filter);
+            default:
+                return new IdeaCount(ideaRepository.countMatching(filter), CountStrategy.EXACT, true);
+        }
+    }
+
+    /**
+     * Evicts cached counts whose filter could include ideas of the given category in any of the given statuses.
+     * When called inside a transaction the eviction is repeated after commit so a concurrent reader
+     * cannot re-cache a count taken before the change became visible.
+     */
+    public void invalidate(String category, IdeaStatus... statuses) {
+        Set<IdeaStatus> affected = Set.copyOf(Arrays.asList(statuses));
+        evict(category, affected);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(category, affected);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    private IdeaCount cachedCount(IdeaFilter filter) {
+        long now = System.nanoTime();
+        CachedCount cached = cache.get(filter);
+        if (cached != null && now - cached.loadedAt() < cacheTtlNanos) {
+            return new IdeaCount(cached.total(), CountStrategy.CACHED, false);
+        }
+        long total = ideaRepository.countMatching(filter);
+        // Arbitrary date ranges make the key space open-ended, so stop caching once the map is full of live entries
+        if (cache.size() >= MAX_CACHED_FILTERS) {
+            cache.values().removeIf(entry -> now - entry.loadedAt() >= cacheTtlNanos);
+        }
+        if (cache.size() < MAX_CACHED_FILTERS) {
+            cache.put(filter, new CachedCount(total, now));
+        }
+        return new IdeaCount(total, CountStrategy.CACHED, true);
+    }
+
+    private IdeaCount estimatedCount(IdeaFilter filter) {
+        Long estimate;
+        if (filter.isEmpty()) {
+            estimate = jdbcTemplate.queryForObject(TABLE_ESTIMATE_SQL, Long.class);
+        } else {
+            estimate = plannerEstimate(filter);
+        }
+
+        // reltuples is -1 (or 0 for a table that was never analyzed) until statistics exist
+        if (estimate == null || estimate <= 0) {
+            return new IdeaCount(ideaRepository.countMatching(filter), CountStrategy.ESTIMATED, true);
+        }
+        return new IdeaCount(estimate, CountStrategy.ESTIMATED, false);
+    }
+
+    private Long plannerEstimate(IdeaFilter filter) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        if (!filter.statuses().isEmpty()) {
+            conditions.add("status IN (" + placeholders(filter.statuses().size()) + ")");
+            filter.statuses().forEach(status -> args.add(status.name()));
+        }
+        if (!filter.categories().isEmpty()) {
+            conditions.add("category IN (" + placeholders(filter.categories().size()) + ")");
+            args.addAll(filter.categories());
+        }
+        addCondition(conditions, args, "submitter_id = ?", filter.submitterId());
+        addCondition(conditions, args, "created_at >= ?", filter.createdFrom());
+        addCondition(conditions, args, "created_at <= ?", filter.createdTo());
+        addCondition(conditions, args, "updated_at >= ?", filter.updatedFrom());
+        addCondition(conditions, args, "updated_at <= ?", filter.updatedTo());
+
+        String plan = jdbcTemplate.queryForObject(
+            EXPLAIN_PREFIX + String.join(" AND ", conditions), String.class, args.toArray()
+        );
+        return parsePlanRows(plan);
+    }
+
+    private static void addCondition(List<String> conditions, List<Object> args, String condition, Object value) {
+        if (value != null) {
+            conditions.add(condition);
+            args.add(value);
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private Long parsePlanRows(String plan) {
+        if (plan == null) {
+            return null;
+        }
+        try {
+            JsonNode rows = objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows");
+            return rows.isNumber() ? rows.asLong() : null;
+        } catch (JsonProcessingException ex) {
+            return null;
+        }
+    }
+
+    private void evict(String category, Set<IdeaStatus> statuses) {
+        cache.keySet().removeIf(filter -> statuses.stream().anyMatch(status -> filter.mayMatch(category, status)));
+    }
+
+    private record CachedCount(long total, long loadedAt) {}
+}
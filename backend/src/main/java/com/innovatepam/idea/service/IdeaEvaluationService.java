@@ -1,13 +1,25 @@
 package com.innovatepam.idea.service;
 
 import com.innovatepam.auth.model.User;
+import com.innovatepam.auth.repository.UserRepository;
 import com.innovatepam.idea.exception.IdeaNotFoundException;
 import com.innovatepam.idea.model.Idea;
 import com.innovatepam.idea.model.IdeaEvaluation;
 import com.innovatepam.idea.model.IdeaStatus;
 import com.innovatepam.idea.repository.IdeaEvaluationRepository;
 import com.innovatepam.idea.repository.IdeaRepository;
+import com.innovatepam.idea.util.IdeaCursor;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,29 +27,56 @@ import org.springframework.transaction.annotation.Transactional;
 public class IdeaEvaluationService {
     private final IdeaRepository ideaRepository;
     private final IdeaEvaluationRepository ideaEvaluationRepository;
+    private final UserRepository userRepository;
 
     public IdeaEvaluationService(
         IdeaRepository ideaRepository,
-        IdeaEvaluationRepository ideaEvaluationRepository
+        IdeaEvaluationRepository ideaEvaluationRepository,
+        UserRepository userRepository
     ) {
         this.ideaRepository = ideaRepository;
         this.ideaEvaluationRepository = ideaEvaluationRepository;
+        this.userRepository = userRepository;
     }
 
     @Transactional
-    public IdeaEvaluation addComment(Long ideaId, User evaluator, String comment) {
-        Idea idea = ideaRepository.findById(ideaId)
-            .orElseThrow(() -> new IdeaNotFoundException(ideaId));
+    public IdeaEvaluation addComment(Long ideaId, UUID evaluatorId, String comment) {
+        // The counter, version and updated_at are bumped in place instead of loading and dirtying the
+        // entity, so concurrent comments never fail the optimistic lock; no updated row means no such idea
+        if (ideaRepository.incrementEvaluationCount(ideaId, LocalDateTime.now()) == 0) {
+            throw new IdeaNotFoundException(ideaId);
+        }
+        Idea idea = ideaRepository.getReferenceById(ideaId);
 
-        return saveEvaluation(idea, evaluator, comment, null);
+        User evaluator = userRepository.getReferenceById(evaluatorId);
+        // The caller maps the evaluator's email after the session closes; the users cache usually serves it
+        Hibernate.initialize(evaluator);
+        return ideaEvaluationRepository.save(newEvaluation(idea, evaluator, comment, null));
     }
 
+    /**
+     * Returns one page of an idea's evaluations, newest first, continuing after {@code position}.
+     */
     @Transactional(readOnly = true)
-    public List<IdeaEvaluation> getEvaluationHistory(Long ideaId) {
+    public Window<IdeaEvaluation> getEvaluationHistory(Long ideaId, KeysetScrollPosition position, int size) {
         if (!ideaRepository.existsById(ideaId)) {
             throw new IdeaNotFoundException(ideaId);
         }
-        return ideaEvaluationRepository.findByIdeaIdOrderByCreatedAtAsc(ideaId);
+        return ideaEvaluationRepository.findByIdeaId(ideaId, position, Limit.of(size), IdeaCursor.SORT);
+    }
+
+    /**
+     * Loads at most {@code limit} of the newest evaluations of each idea, newest first. Ideas without
+     * evaluations are absent from the result.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<IdeaEvaluation>> getLatestEvaluations(Collection<Long> ideaIds, int limit) {
+        List<Long> evaluationIds = ideaEvaluationRepository.findLatestIdsByIdeaIdIn(ideaIds, limit);
+        if (evaluationIds.isEmpty()) {
+            return Map.of();
+        }
+        return ideaEvaluationRepository.findWithEvaluatorByIdIn(evaluationIds).stream()
+            .collect(Collectors.groupingBy(evaluation -> evaluation.getIdea().getId()));
     }
 
     @Transactional
@@ -50,17 +89,47 @@ public class IdeaEvaluationService {
         return saveEvaluation(idea, evaluator, comment, statusSnapshot);
     }
 
+    /**
+     * Records the same status evaluation for several ideas. The rows are saved together so they go out
+     * as JDBC insert batches rather than one statement per idea.
+     */
+    @Transactional
+    public List<IdeaEvaluation> addStatusEvaluations(
+        List<Idea> ideas,
+        User evaluator,
+        String comment,
+        IdeaStatus statusSnapshot
+    ) {
+        List<IdeaEvaluation> evaluations = new ArrayList<>(ideas.size());
+        for (Idea idea : ideas) {
+            idea.setEvaluationCount(idea.getEvaluationCount() + 1);
+            evaluations.add(newEvaluation(idea, evaluator, comment, statusSnapshot));
+        }
+        return ideaEvaluationRepository.saveAll(evaluations);
+    }
+
     private IdeaEvaluation saveEvaluation(
         Idea idea,
         User evaluator,
         String comment,
         IdeaStatus statusSnapshot
+    ) {
+        // Status evaluations come with a status change, so the idea is updated (and versioned) anyway
+        idea.setEvaluationCount(idea.getEvaluationCount() + 1);
+        return ideaEvaluationRepository.save(newEvaluation(idea, evaluator, comment, statusSnapshot));
+    }
+
+    private IdeaEvaluation newEvaluation(
+        Idea idea,
+        User evaluator,
+        String comment,
+        IdeaStatus statusSnapshot
     ) {
         IdeaEvaluation evaluation = new IdeaEvaluation();
         evaluation.setIdea(idea);
         evaluation.setEvaluator(evaluator);
         evaluation.setComment(comment);
         evaluation.setStatusSnapshot(statusSnapshot);
-        return ideaEvaluationRepository.save(evaluation);
+        return evaluation;
     }
 }
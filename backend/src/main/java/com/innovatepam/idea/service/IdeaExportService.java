@@ -0,0 +1,108 @@
+package com.innovatepam.idea.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innovatepam.idea.model.ExportFormat;
+import com.innovatepam.idea.util.ExportRowWriter;
+
+/**
+ * Streams ideas and evaluations from a JDBC cursor straight to an output stream.
+ * 
+ * The Postgres driver only uses a server-side cursor when autocommit is off and a fetch size is set,
+ * so each export runs inside a read-only transaction and pulls {@code idea.export.fetch-size} rows
+ * per round trip. Rows are written as they are read and never collected.
+ */
+@Service
+public class IdeaExportService {
+    private static final String IDEAS_SQL = "SELECT i.id, i.title, i.description, i.category, i.status,"
+        + " i.submitter_id, u.email AS submitter_email, i.evaluation_count, i.has_attachment,"
+        + " i.created_at, i.updated_at"
+        + " FROM ideas i JOIN users u ON u.id = i.submitter_id"
+        + " ORDER BY i.id";
+
+    private static final String EVALUATIONS_SQL = "SELECT e.id, e.idea_id, e.evaluator_id,"
+        + " u.email AS evaluator_email, e.status_snapshot, e.comment, e.created_at"
+        + " FROM idea_evaluations e JOIN users u ON u.id = e.evaluator_id"
+        + " ORDER BY e.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    public IdeaExportService(
+        DataSource dataSource,
+        PlatformTransactionManager transactionManager,
+        ObjectMapper objectMapper,
+        @Value("${idea.export.fetch-size:500}") int fetchSize
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    public void exportIdeas(ExportFormat format, OutputStream out) throws IOException {
+        export(IDEAS_SQL, format, out);
+    }
+
+    public void exportEvaluations(ExportFormat format, OutputStream out) throws IOException {
+        export(EVALUATIONS_SQL, format, out);
+    }
+
+    private void export(String sql, ExportFormat format, OutputStream out) throws IOException {
+        ExportRowWriter writer = ExportRowWriter.create(format, out, objectMapper);
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(sql, new StreamingExtractor(writer)));
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        writer.finish();
+    }
+
+    private static final class StreamingExtractor implements ResultSetExtractor<Void> {
+        private final ExportRowWriter writer;
+
+        private StreamingExtractor(ExportRowWriter writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public Void extractData(ResultSet rs) throws SQLException {
+            try {
+                ResultSetMetaData metaData = rs.getMetaData();
+                String[] columns = new String[metaData.getColumnCount()];
+                for (int i = 0; i < columns.length; i++) {
+                    columns[i] = metaData.getColumnLabel(i + 1);
+                }
+                writer.writeHeader(columns);
+
+                Object[] values = new Object[columns.length];
+                while (rs.next()) {
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = rs.getObject(i + 1);
+                    }
+                    writer.writeRow(values);
+                }
+                return null;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.innovatepam.idea.service;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.innovatepam.idea.dto.IdeaFacetCount;
+import com.innovatepam.idea.dto.IdeaFacetsResponse;
+import com.innovatepam.idea.model.IdeaStatus;
+import com.innovatepam.idea.repository.IdeaRepository;
+
+/**
+ * Keeps the status x category idea count matrix in memory.
+ * 
+ * Reads return a prebuilt immutable snapshot and never touch the database. Creates and status changes
+ * are applied once their transaction commits, and a periodic reconciliation replaces the matrix with a
+ * GROUP BY over the ideas table to correct any drift (for example, writes from another instance).
+ */
+@Service
+public class IdeaFacetService {
+    private static final int STATUS_COUNT = IdeaStatus.values().length;
+    private static final int RECONCILE_ATTEMPTS = 3;
+
+    private final IdeaRepository ideaRepository;
+
+    // Guarded by this; the counters are indexed by IdeaStatus ordinal
+    private final Map<String, long[]> counts = new HashMap<>();
+    private long mutations;
+    private Instant reconciledAt;
+
+    private volatile IdeaFacetsResponse snapshot;
+
+    public IdeaFacetService(IdeaRepository ideaRepository) {
+        this.ideaRepository = ideaRepository;
+        this.snapshot = buildSnapshot();
+    }
+
+    public IdeaFacetsResponse getFacets() {
+        return snapshot;
+    }
+
+    public void recordCreated(String category, IdeaStatus status) {
+        afterCommit(() -> apply(category, null, status));
+    }
+
+    public void recordTransition(String category, IdeaStatus from, IdeaStatus to) {
+        if (from != to) {
+            afterCommit(() -> apply(category, from, to));
+        }
+    }
+
+    /**
+     * Replaces the in-memory matrix with the counts currently in the database. If an in-process update
+     * lands while the query runs, it is unknown whether the query saw it, so the result is discarded and
+     * the query retried; after a few contended attempts the incremental state is kept until the next run.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+        fixedDelayString = "${idea.facets.reconcile-interval:PT5M}",
+        initialDelayString = "${idea.facets.reconcile-interval:PT5M}"
+    )
+    public void reconcile() {
+        for (int attempt = 0; attempt < RECONCILE_ATTEMPTS; attempt++) {
+            long observed;
+            synchronized (this) {
+                observed = mutations;
+            }
+
+            List<IdeaFacetCount> rows = ideaRepository.findFacetCounts();
+
+            synchronized (this) {
+                if (mutations != observed) {
+                    continue;
+                }
+                counts.clear();
+                for (IdeaFacetCount row : rows) {
+                    counts.computeIfAbsent(row.category(), key -> new long[STATUS_COUNT])[row.status().ordinal()] = row.count();
+                }
+                reconciledAt = Instant.now();
+                snapshot = buildSnapshot();
+                return;
+            }
+        }
+    }
+
+    private synchronized void apply(String category, IdeaStatus from, IdeaStatus to) {
+        long[] row = counts.computeIfAbsent(category, key -> new long[STATUS_COUNT]);
+        if (from != null && row[from.ordinal()] > 0) {
+            row[from.ordinal()]--;
+        }
+        row[to.ordinal()]++;
+        mutations++;
+        snapshot = buildSnapshot();
+    }
+
+    private IdeaFacetsResponse buildSnapshot() {
+        Map<String, Map<IdeaStatus, Long>> matrix = new TreeMap<>();
+        Map<IdeaStatus, Long> statusTotals = zeroedStatusMap();
+        Map<String, Long> categoryTotals = new TreeMap<>();
+        long total = 0;
+
+        for (Map.Entry<String, long[]> entry : counts.entrySet()) {
+            Map<IdeaStatus, Long> byStatus = new LinkedHashMap<>();
+            long categoryTotal = 0;
+            for (IdeaStatus status : IdeaStatus.values()) {
+                long count = entry.getValue()[status.ordinal()];
+                byStatus.put(status, count);
+                statusTotals.merge(status, count, Long::sum);
+                categoryTotal += count;
+            }
+            matrix.put(entry.getKey(), Collections.unmodifiableMap(byStatus));
+            categoryTotals.put(entry.getKey(), categoryTotal);
+            total += categoryTotal;
+        }
+
+        return new IdeaFacetsResponse(
+            Collections.unmodifiableMap(matrix),
+            Collections.unmodifiableMap(statusTotals),
+            Collections.unmodifiableMap(categoryTotals),
+            total,
+            reconciledAt
+        );
+    }
+
+    private static Map<IdeaStatus, Long> zeroedStatusMap() {
+        Map<IdeaStatus, Long> map = new EnumMap<>(IdeaStatus.class);
+        for (IdeaStatus status : IdeaStatus.values()) {
+            map.put(status, 0L);
+        }
+        return map;
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.innovatepam.idea.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innovatepam.idea.dto.IdeaImportError;
+import com.innovatepam.idea.dto.IdeaImportResponse;
+import com.innovatepam.idea.model.ExportFormat;
+import com.innovatepam.idea.model.Idea;
+import com.innovatepam.idea.model.IdeaStatus;
+import com.innovatepam.idea.util.ExportRowWriter;
+import com.innovatepam.idea.util.ImportRowReader;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Bulk-loads ideas from NDJSON or CSV through the Postgres COPY protocol.
+ *
+ * Rows are checked against the {@link Idea} bean validation constraints as they are read, and valid rows
+ * are buffered into chunks of {@code idea.import.chunk-size}. Each chunk is copied into a temporary
+ * staging table and moved into {@code ideas} with a single set-based insert in its own transaction, so a
+ * failed chunk never undoes the chunks before it. Rows whose submitter does not exist or that collide
+ * with an existing idea are left out by that insert and reported with the validation failures.
+ *
+ * Column names match the idea export, so an exported file can be imported again.
+ */
+@Service
+public class IdeaImportService {
+    static final String TITLE = "title";
+    static final String DESCRIPTION = "description";
+    static final String CATEGORY = "category";
+    static final String STATUS = "status";
+    static final String SUBMITTER_EMAIL = "submitter_email";
+    static final String CREATED_AT = "created_at";
+
+    private static final String CREATE_STAGING_SQL = "CREATE TEMP TABLE idea_import_staging ("
+        + " row_no BIGINT NOT NULL, title TEXT, description TEXT, category TEXT, status TEXT,"
+        + " submitter_email TEXT, created_at TIMESTAMP"
+        + ") ON COMMIT DROP";
+
+    private static final String COPY_SQL = "COPY idea_import_staging"
+        + " (row_no, title, description, category, status, submitter_email, created_at)"
+        + " FROM STDIN WITH (FORMAT csv)";
+
+    // Duplicates within the chunk are collapsed to their first row before inserting, and ON CONFLICT
+    // skips rows that clash with ideas already stored; the final select returns every staged row
+    // that did not make it into the table.
+    private static final String MERGE_SQL = "WITH candidates AS ("
+        + "  SELECT DISTINCT ON (u.id, s.created_at) s.row_no, s.title, s.description, s.category, s.status,"
+        + "   u.id AS submitter_id, s.created_at"
+        + "  FROM idea_import_staging s JOIN users u ON u.email = s.submitter_email"
+        + "  ORDER BY u.id, s.created_at, s.row_no"
+        + " ), inserted AS ("
+        + "  INSERT INTO ideas (title, description, category, status, submitter_id, created_at, updated_at, version)"
+        + "  SELECT title, description, category, status, submitter_id, created_at, created_at, 0 FROM candidates"
+        + "  ON CONFLICT (submitter_id, created_at) DO NOTHING"
+        + "  RETURNING submitter_id, created_at"
+        + " )"
+        + " SELECT s.row_no, s.submitter_email, s.created_at, u.id IS NULL AS unknown_submitter"
+        + " FROM idea_import_staging s LEFT JOIN users u ON u.email = s.submitter_email"
+        + " WHERE u.id IS NULL OR NOT EXISTS ("
+        + "  SELECT 1 FROM candidates c JOIN inserted i"
+        + "   ON i.submitter_id = c.submitter_id AND i.created_at = c.created_at"
+        + "  WHERE c.row_no = s.row_no"
+        + " )"
+        + " ORDER BY s.row_no";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final IdeaCountService ideaCountService;
+    private final IdeaFacetService ideaFacetService;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public IdeaImportService(
+        DataSource dataSource,
+        PlatformTransactionManager transactionManager,
+        Validator validator,
+        ObjectMapper objectMapper,
+        IdeaCountService ideaCountService,
+        IdeaFacetService ideaFacetService,
+        @Value("${idea.import.chunk-size:5000}") int chunkSize,
+        @Value("${idea.import.max-reported-errors:1000}") int maxReportedErrors
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.ideaCountService = ideaCountService;
+        this.ideaFacetService = ideaFacetService;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public IdeaImportResponse importIdeas(ExportFormat format, InputStream in) throws IOException {
+        ImportReport report = new ImportReport(maxReportedErrors);
+        Chunk chunk = new Chunk();
+        // Postgres keeps microseconds, so rows without created_at get distinct values and do not trip
+        // the unique (submitter_id, created_at) index when one submitter has several rows
+        LocalDateTime importedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        ImportRowReader reader = ImportRowReader.create(format, in, objectMapper);
+        ImportRowReader.Row row;
+        while ((row = reader.next()) != null) {
+            report.totalRows++;
+            if (row.error() != null) {
+                report.reject(row.number(), null, row.error());
+                continue;
+            }
+            stage(row, importedAt, chunk, report);
+            if (chunk.size() >= chunkSize) {
+                flush(chunk, report);
+            }
+        }
+        flush(chunk, report);
+
+        if (report.importedRows > 0) {
+            ideaCountService.invalidateAll();
+            ideaFacetService.reconcile();
+        }
+        return report.toResponse();
+    }
+
+    private void stage(ImportRowReader.Row row, LocalDateTime importedAt, Chunk chunk, ImportReport report) {
+        Map<String, String> values = row.values();
+        List<IdeaImportError> errors = new ArrayList<>();
+
+        String title = validated(row.number(), TITLE, trimmed(values.get(TITLE)), errors);
+        String description = validated(row.number(), DESCRIPTION, trimmed(values.get(DESCRIPTION)), errors);
+        String category = validated(row.number(), CATEGORY, trimmed(values.get(CATEGORY)), errors);
+
+        IdeaStatus status = IdeaStatus.SUBMITTED;
+        String rawStatus = trimmed(values.get(STATUS));
+        if (rawStatus != null && !rawStatus.isEmpty()) {
+            try {
+                status = IdeaStatus.valueOf(rawStatus.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                errors.add(new IdeaImportError(row.number(), STATUS, "Unknown status: " + rawStatus));
+            }
+        }
+
+        String submitterEmail = trimmed(values.get(SUBMITTER_EMAIL));
+        if (submitterEmail == null || submitterEmail.isEmpty()) {
+            errors.add(new IdeaImportError(row.number(), SUBMITTER_EMAIL, "Submitter email is required"));
+        }
+
+        LocalDateTime createdAt = importedAt.plus(row.number(), ChronoUnit.MICROS);
+        String rawCreatedAt = trimmed(values.get(CREATED_AT));
+        if (rawCreatedAt != null && !rawCreatedAt.isEmpty()) {
+            try {
+                createdAt = LocalDateTime.parse(rawCreatedAt);
+            } catch (DateTimeParseException ex) {
+                errors.add(new IdeaImportError(row.number(), CREATED_AT, "Created at must be an ISO-8601 date-time"));
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            report.reject(errors);
+            return;
+        }
+        chunk.add(row.number(), title, description, category, status, submitterEmail, createdAt);
+    }
+
+    private String validated(long rowNumber, String property, String value, List<IdeaImportError> errors) {
+        for (ConstraintViolation<Idea> violation : validator.validateValue(Idea.class, property, value)) {
+            errors.add(new IdeaImportError(rowNumber, property, violation.getMessage()));
+        }
+        return value;
+    }
+
+    private void flush(Chunk chunk, ImportReport report) {
+        if (chunk.size() == 0) {
+            return;
+        }
+        try {
+            List<IdeaImportError> skipped = transactionTemplate.execute(status -> jdbcTemplate.execute(
+                (ConnectionCallback<List<IdeaImportError>>) connection -> {
+                    try (var statement = connection.createStatement()) {
+                        statement.execute(CREATE_STAGING_SQL);
+                    }
+                    try {
+                        connection.unwrap(PGConnection.class).getCopyAPI()
+                            .copyIn(COPY_SQL, new StringReader(chunk.buffer.toString()));
+                    } catch (IOException ex) {
+                        throw new SQLException("Failed to stream import chunk", ex);
+                    }
+                    List<IdeaImportError> rejected = jdbcTemplate.query(MERGE_SQL, (rs, rowNum) -> rs.getBoolean("unknown_submitter")
+                        ? new IdeaImportError(rs.getLong("row_no"), SUBMITTER_EMAIL,
+                            "Unknown submitter: " + rs.getString("submitter_email"))
+                        : new IdeaImportError(rs.getLong("row_no"), CREATED_AT,
+                            "Submitter already has an idea created at " + rs.getTimestamp("created_at").toLocalDateTime()));
+                    // Dropped explicitly as well in case the import joined a surrounding transaction
+                    try (var statement = connection.createStatement()) {
+                        statement.execute("DROP TABLE idea_import_staging");
+                    }
+                    return rejected;
+                }
+            ));
+            report.importedRows += chunk.size() - skipped.size();
+            for (IdeaImportError error : skipped) {
+                report.reject(List.of(error));
+            }
+        } catch (DataAccessException ex) {
+            String reason = "Row was not imported: " + NestedExceptionUtils.getMostSpecificCause(ex).getMessage();
+            for (long rowNumber : chunk.rowNumbers) {
+                report.reject(rowNumber, null, reason);
+            }
+        }
+        chunk.clear();
+    }
+
+    private static String trimmed(String value) {
+        return value == null ? null : value.trim();
+    }
+
+    /**
+     * Valid rows encoded as COPY CSV lines, plus their row numbers for reporting a failed chunk.
+     */
+    private static final class Chunk {
+        private final StringBuilder buffer = new StringBuilder();
+        private final List<Long> rowNumbers = new ArrayList<>();
+
+        void add(
+            long rowNumber,
+            String title,
+            String description,
+            String category,
+            IdeaStatus status,
+            String submitterEmail,
+            LocalDateTime createdAt
+        ) {
+            buffer.append(rowNumber).append(',')
+                .append(ExportRowWriter.escapeCsv(title)).append(',')
+                .append(ExportRowWriter.escapeCsv(description)).append(',')
+                .append(ExportRowWriter.escapeCsv(category)).append(',')
+                .append(status.name()).append(',')
+                .append(ExportRowWriter.escapeCsv(submitterEmail)).append(',')
+                .append(createdAt).append('\n');
+            rowNumbers.add(rowNumber);
+        }
+
+        int size() {
+            return rowNumbers.size();
+        }
+
+        void clear() {
+            buffer.setLength(0);
+            rowNumbers.clear();
+        }
+    }
+
+    private static final class ImportReport {
+        private final int maxReportedErrors;
+        private final List<IdeaImportError> errors = new ArrayList<>();
+        private long totalRows;
+        private long importedRows;
+        private long rejectedRows;
+        private boolean truncated;
+
+        private ImportReport(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        void reject(long rowNumber, String field, String message) {
+            reject(List.of(new IdeaImportError(rowNumber, field, message)));
+        }
+
+        /**
+         * Records the errors of a single rejected row.
+         */
+        void reject(List<IdeaImportError> rowErrors) {
+            rejectedRows++;
+            for (IdeaImportError error : rowErrors) {
+                if (errors.size() < maxReportedErrors) {
+                    errors.add(error);
+                } else {
+                    truncated = true;
+                }
+            }
+        }
+
+        IdeaImportResponse toResponse() {
+            errors.sort(Comparator.comparingLong(IdeaImportError::row));
+            return new IdeaImportResponse(totalRows, importedRows, rejectedRows, truncated, List.copyOf(errors));
+        }
+    }
+}
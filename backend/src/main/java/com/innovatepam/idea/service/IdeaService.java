@@ -1,59 +1,110 @@
 package com.innovatepam.idea.service;
 
-import org.hibernate.Hibernate;
-import org.springframework.data.domain.Page;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import com.innovatepam.auth.model.User;
+import com.innovatepam.auth.repository.UserRepository;
+import com.innovatepam.idea.dto.BulkStatusUpdateResponse;
+import com.innovatepam.idea.dto.BulkStatusUpdateResult;
+import com.innovatepam.idea.dto.IdeaBatchResponse;
+import com.innovatepam.idea.dto.IdeaCount;
 import com.innovatepam.idea.dto.IdeaDetailResponse;
+import com.innovatepam.idea.dto.IdeaFilter;
+import com.innovatepam.idea.dto.IdeaListing;
+import com.innovatepam.idea.dto.IdeaListingVersion;
 import com.innovatepam.idea.dto.IdeaResponse;
+import com.innovatepam.idea.dto.LatestEvaluations;
+import com.innovatepam.idea.dto.PageResponse;
 import com.innovatepam.idea.exception.IdeaNotFoundException;
+import com.innovatepam.idea.exception.InvalidFilterException;
 import com.innovatepam.idea.exception.InvalidStatusTransitionException;
+import com.innovatepam.idea.model.BulkStatusOutcome;
+import com.innovatepam.idea.model.CountStrategy;
 import com.innovatepam.idea.model.Idea;
 import com.innovatepam.idea.model.IdeaAttachment;
+import com.innovatepam.idea.model.IdeaField;
 import com.innovatepam.idea.model.IdeaStatus;
 import com.innovatepam.idea.repository.IdeaRepository;
+import com.innovatepam.idea.util.IdeaCursor;
+import com.innovatepam.idea.util.IdeaFields;
 import com.innovatepam.idea.util.IdeaStatusValidator;
 
 @Service
 public class IdeaService {
+    /** Number of evaluations embedded in a detail response; older ones are paged through the history endpoint. */
+    public static final int DETAIL_EVALUATIONS = 10;
+
     private final IdeaRepository ideaRepository;
     private final IdeaEvaluationService evaluationService;
     private final FileStorageService fileStorageService;
+    private final IdeaCountService ideaCountService;
+    private final IdeaFacetService ideaFacetService;
+    private final UserRepository userRepository;
 
     public IdeaService(
         IdeaRepository ideaRepository,
         IdeaEvaluationService evaluationService,
-        FileStorageService fileStorageService
+        FileStorageService fileStorageService,
+        IdeaCountService ideaCountService,
+        IdeaFacetService ideaFacetService,
+        UserRepository userRepository
     ) {
         this.ideaRepository = ideaRepository;
         this.evaluationService = evaluationService;
         this.fileStorageService = fileStorageService;
+        this.ideaCountService = ideaCountService;
+        this.ideaFacetService = ideaFacetService;
+        this.userRepository = userRepository;
     }
 
+    /**
+     * Users are referenced by id from the caller's token. The submitter is never queried for the insert;
+     * the response reads its email, which the second-level cache usually serves.
+     */
     @Transactional
     public IdeaResponse createIdea(
         String title,
         String description,
         String category,
-        User submitter,
+        UUID submitterId,
         MultipartFile file
     ) {
         Idea idea = new Idea();
         idea.setTitle(title == null ? null : title.trim());
         idea.setDescription(description == null ? null : description.trim());
         idea.setCategory(category == null ? null : category.trim());
-        idea.setSubmitter(submitter);
+        idea.setSubmitter(userRepository.getReferenceById(submitterId));
         idea.setStatus(IdeaStatus.SUBMITTED);
 
         Idea saved = ideaRepository.save(idea);
+        ideaCountService.invalidate(saved.getCategory(), saved.getStatus());
+        ideaFacetService.recordCreated(saved.getCategory(), saved.getStatus());
 
         if (file != null && !file.isEmpty()) {
             IdeaAttachment attachment = fileStorageService.storeFile(file, saved);
             saved.setAttachment(attachment);
+            saved.setHasAttachment(attachment != null);
             saved = ideaRepository.save(saved);
         }
 
@@ -68,36 +119,159 @@ public class IdeaService {
 
     @Transactional(readOnly = true)
     public IdeaDetailResponse getIdeaDetailById(Long ideaId) {
-        Idea idea = ideaRepository.findById(ideaId)
+        Idea idea = ideaRepository.findDetailById(ideaId)
             .orElseThrow(() -> new IdeaNotFoundException(ideaId));
-        return IdeaDetailResponse.from(idea);
+        LatestEvaluations latest = latestEvaluations(List.of(ideaId)).getOrDefault(ideaId, LatestEvaluations.NONE);
+        return IdeaDetailResponse.from(idea, latest);
+    }
+
+    /**
+     * Reads only the version column, for answering conditional requests without loading the idea.
+     */
+    @Transactional(readOnly = true)
+    public Integer getIdeaVersion(Long ideaId) {
+        return ideaRepository.findVersionById(ideaId)
+            .orElseThrow(() -> new IdeaNotFoundException(ideaId));
+    }
+
+    /**
+     * Reads the listing version and then, unless {@code notModified} accepts that version, the page. Both
+     * run in one read-only transaction, so they come from the same database even when reads go to
+     * replicas, and the page can only be newer than its version, never older.
+     *
+     * @param fields Requested fields, or null for full listing rows
+     * @param notModified Whether the caller already holds the page at the given version
+     * @return The version, with a null page when {@code notModified} accepted it
+     */
+    @Transactional(readOnly = true)
+    public IdeaListing getIdeasIfModified(
+        IdeaFilter filter,
+        Pageable pageable,
+        CountStrategy countStrategy,
+        Set<IdeaField> fields,
+        Predicate<IdeaListingVersion> notModified
+    ) {
+        validateFilter(filter);
+        IdeaListingVersion version = new IdeaListingVersion(ideaRepository.findListingVersion());
+        if (notModified.test(version)) {
+            return new IdeaListing(version, null);
+        }
+        PageResponse<?> page = fields == null
+            ? getIdeas(filter, pageable, countStrategy)
+            : getIdeaFields(filter, pageable, countStrategy, fields);
+        return new IdeaListing(version, page);
     }
 
+    /**
+     * Loads listing rows for a list of ids with one query. Results keep the order of the request and
+     * ids with no matching idea are returned in {@code missingIds}.
+     */
     @Transactional(readOnly = true)
-    public Page<IdeaResponse> getIdeas(Pageable pageable) {
-        return ideaRepository.findAll(pageable).map(IdeaResponse::from);
+    public IdeaBatchResponse<IdeaResponse> getIdeaSummaries(List<Long> ideaIds) {
+        Set<Long> requested = new LinkedHashSet<>(ideaIds);
+        Map<Long, IdeaResponse> found = ideaRepository.findResponsesByIdIn(requested).stream()
+            .collect(Collectors.toMap(IdeaResponse::id, Function.identity()));
+        return toBatch(requested, found);
     }
 
+    /**
+     * Loads full ideas with their attachment for a list of ids with one query, and the latest
+     * evaluations of all of them with one more.
+     */
     @Transactional(readOnly = true)
-    public Page<IdeaResponse> getIdeasByStatus(IdeaStatus status, Pageable pageable) {
-        return ideaRepository.findByStatus(status, pageable).map(IdeaResponse::from);
+    public IdeaBatchResponse<IdeaDetailResponse> getIdeaDetails(List<Long> ideaIds) {
+        Set<Long> requested = new LinkedHashSet<>(ideaIds);
+        List<Idea> ideas = ideaRepository.findDetailsByIdIn(requested);
+        Map<Long, LatestEvaluations> latest = latestEvaluations(ideas.stream().map(Idea::getId).toList());
+        Map<Long, IdeaDetailResponse> found = ideas.stream()
+            .collect(Collectors.toMap(
+                Idea::getId,
+                idea -> IdeaDetailResponse.from(idea, latest.getOrDefault(idea.getId(), LatestEvaluations.NONE)),
+                (first, duplicate) -> first
+            ));
+        return toBatch(requested, found);
     }
 
     @Transactional(readOnly = true)
-    public Page<IdeaResponse> getIdeasByCategory(String category, Pageable pageable) {
-        return ideaRepository.findByCategory(category, pageable).map(IdeaResponse::from);
+    public PageResponse<IdeaResponse> getIdeas(
+        IdeaFilter filter,
+        Pageable pageable,
+        CountStrategy countStrategy
+    ) {
+        validateFilter(filter);
+        return toPage(ideaRepository.findResponses(filter, pageable), filter, pageable, countStrategy);
     }
 
+    /**
+     * Sparse listing: reads and returns only the requested fields, see {@link IdeaFields}.
+     */
     @Transactional(readOnly = true)
-    public Page<IdeaResponse> getIdeasByStatusAndCategory(IdeaStatus status, String category, Pageable pageable) {
-        return ideaRepository.findByCategoryAndStatus(category, status, pageable).map(IdeaResponse::from);
+    public PageResponse<Map<String, Object>> getIdeaFields(
+        IdeaFilter filter,
+        Pageable pageable,
+        CountStrategy countStrategy,
+        Set<IdeaField> fields
+    ) {
+        validateFilter(filter);
+        return toPage(ideaRepository.findFields(filter, pageable, fields), filter, pageable, countStrategy);
+    }
+
+    /**
+     * Sparse detail. Column fields are read with a single projection; the full fetch plan is only used
+     * when the attachment or evaluations are requested.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getIdeaDetailFields(Long ideaId, Set<IdeaField> fields) {
+        if (fields.stream().allMatch(IdeaField::isColumn)) {
+            return ideaRepository.findFieldsById(ideaId, fields)
+                .orElseThrow(() -> new IdeaNotFoundException(ideaId));
+        }
+        Idea idea = ideaRepository.findDetailById(ideaId)
+            .orElseThrow(() -> new IdeaNotFoundException(ideaId));
+        LatestEvaluations latest = fields.contains(IdeaField.EVALUATIONS)
+            ? latestEvaluations(List.of(ideaId)).getOrDefault(ideaId, LatestEvaluations.NONE)
+            : null;
+        return IdeaFields.toMap(idea, fields, latest);
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<IdeaResponse> searchIdeas(
+        String query,
+        IdeaStatus status,
+        String category,
+        Pageable pageable
+    ) {
+        return PageResponse.of(ideaRepository.search(query.trim(), status, category, pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public Window<IdeaResponse> scrollIdeas(
+        IdeaStatus status,
+        String category,
+        ScrollPosition position,
+        int size
+    ) {
+        Limit limit = Limit.of(size);
+        Window<Idea> window;
+
+        if (status != null && category != null) {
+            window = ideaRepository.findByCategoryAndStatus(category, status, position, limit, IdeaCursor.SORT);
+        } else if (status != null) {
+            window = ideaRepository.findByStatus(status, position, limit, IdeaCursor.SORT);
+        } else if (category != null) {
+            window = ideaRepository.findByCategory(category, position, limit, IdeaCursor.SORT);
+        } else {
+            window = ideaRepository.findAllBy(position, limit, IdeaCursor.SORT);
+        }
+
+        return window.map(IdeaResponse::from);
     }
 
     @Transactional
     public IdeaResponse updateStatus(
         Long ideaId,
         IdeaStatus targetStatus,
-        User evaluator,
+        UUID evaluatorId,
         String comment
     ) {
         Idea idea = ideaRepository.findById(ideaId)
@@ -105,18 +279,138 @@ public class IdeaService {
 
         validateStatusTransition(idea.getStatus(), targetStatus, comment);
 
+        IdeaStatus previousStatus = idea.getStatus();
         idea.setStatus(targetStatus);
-        evaluationService.addStatusEvaluation(idea, evaluator, comment, targetStatus);
+        ideaCountService.invalidate(idea.getCategory(), previousStatus, targetStatus);
+        ideaFacetService.recordTransition(idea.getCategory(), previousStatus, targetStatus);
+        evaluationService.addStatusEvaluation(idea, userRepository.getReferenceById(evaluatorId), comment, targetStatus);
 
         Idea saved = ideaRepository.save(idea);
-        
-        // Initialize lazy collections within the transaction boundary
-        Hibernate.initialize(saved.getEvaluations());
-        
-        // Convert to DTO while still within the @Transactional boundary
         return IdeaResponse.from(saved);
     }
 
+    /**
+     * Moves many ideas to the same status in one transaction. Every idea is loaded by a single query and
+     * the evaluations are inserted in batches. An idea that does not exist or cannot make the transition
+     * is reported and skipped; it does not fail the others. Results follow the order of the request, and
+     * repeated ids are reported once.
+     */
+    @Transactional
+    public BulkStatusUpdateResponse bulkUpdateStatus(
+        List<Long> ideaIds,
+        IdeaStatus targetStatus,
+        UUID evaluatorId,
+        String comment
+    ) {
+        if (targetStatus == null) {
+            throw new InvalidStatusTransitionException("Status is required");
+        }
+        if (IdeaStatusValidator.isCommentRequired(targetStatus) && isBlank(comment)) {
+            throw new InvalidStatusTransitionException(
+                "Comment is required when accepting or rejecting an idea"
+            );
+        }
+
+        Set<Long> requested = new LinkedHashSet<>(ideaIds);
+        Map<Long, Idea> ideas = ideaRepository.findDetailsByIdIn(requested).stream()
+            .collect(Collectors.toMap(Idea::getId, Function.identity()));
+
+        List<BulkStatusUpdateResult> results = new ArrayList<>(requested.size());
+        List<Idea> transitioned = new ArrayList<>();
+        Map<String, Set<IdeaStatus>> affectedStatuses = new HashMap<>();
+
+        for (Long ideaId : requested) {
+            Idea idea = ideas.get(ideaId);
+            if (idea == null) {
+                results.add(new BulkStatusUpdateResult(
+                    ideaId, BulkStatusOutcome.NOT_FOUND, null, "Idea not found with ID: " + ideaId
+                ));
+                continue;
+            }
+
+            IdeaStatus previousStatus = idea.getStatus();
+            if (!IdeaStatusValidator.isValidTransition(previousStatus, targetStatus)) {
+                results.add(new BulkStatusUpdateResult(
+                    ideaId, BulkStatusOutcome.CONFLICT, previousStatus,
+                    "Invalid status transition from " + previousStatus + " to " + targetStatus
+                ));
+                continue;
+            }
+
+            idea.setStatus(targetStatus);
+            ideaFacetService.recordTransition(idea.getCategory(), previousStatus, targetStatus);
+            affectedStatuses.computeIfAbsent(idea.getCategory(), category -> EnumSet.of(targetStatus))
+                .add(previousStatus);
+            transitioned.add(idea);
+            results.add(new BulkStatusUpdateResult(ideaId, BulkStatusOutcome.UPDATED, targetStatus, null));
+        }
+
+        // One eviction pass per category instead of one per idea
+        affectedStatuses.forEach((category, statuses) ->
+            ideaCountService.invalidate(category, statuses.toArray(IdeaStatus[]::new))
+        );
+        evaluationService.addStatusEvaluations(
+            transitioned, userRepository.getReferenceById(evaluatorId), comment, targetStatus
+        );
+
+        return new BulkStatusUpdateResponse(
+            targetStatus, transitioned.size(), results.size() - transitioned.size(), results
+        );
+    }
+
+    private <T> PageResponse<T> toPage(
+        List<T> content,
+        IdeaFilter filter,
+        Pageable pageable,
+        CountStrategy countStrategy
+    ) {
+        IdeaCount count;
+        if (content.size() < pageable.getPageSize() && (!content.isEmpty() || pageable.getOffset() == 0)) {
+            // A short page already tells us the total, so no count is needed whatever the strategy
+            count = new IdeaCount(pageable.getOffset() + content.size(), countStrategy, true);
+        } else {
+            count = ideaCountService.count(filter, countStrategy);
+        }
+
+        return PageResponse.of(new PageImpl<>(content, pageable, count.total()), count);
+    }
+
+    private Map<Long, LatestEvaluations> latestEvaluations(Collection<Long> ideaIds) {
+        if (ideaIds.isEmpty()) {
+            return Map.of();
+        }
+        // One extra row per idea tells whether a cursor to older evaluations is needed
+        Map<Long, LatestEvaluations> latest = new HashMap<>();
+        evaluationService.getLatestEvaluations(ideaIds, DETAIL_EVALUATIONS + 1)
+            .forEach((ideaId, evaluations) -> latest.put(ideaId, LatestEvaluations.of(evaluations, DETAIL_EVALUATIONS)));
+        return latest;
+    }
+
+    private static <T> IdeaBatchResponse<T> toBatch(Collection<Long> requested, Map<Long, T> found) {
+        Map<Long, T> ideas = new LinkedHashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long ideaId : requested) {
+            T idea = found.get(ideaId);
+            if (idea != null) {
+                ideas.put(ideaId, idea);
+            } else {
+                missingIds.add(ideaId);
+            }
+        }
+        return new IdeaBatchResponse<>(ideas, missingIds);
+    }
+
+    private void validateFilter(IdeaFilter filter) {
+        validateRange("created", filter.createdFrom(), filter.createdTo());
+        validateRange("updated", filter.updatedFrom(), filter.updatedTo());
+    }
+
+    private void validateRange(String field, LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidFilterException(field + "From must not be after " + field + "To");
+        }
+    }
+
     private void validateStatusTransition(
         IdeaStatus currentStatus,
         IdeaStatus targetStatus,
@@ -0,0 +1,152 @@
+package com.innovatepam.idea.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innovatepam.idea.model.ExportFormat;
+
+/**
+ * Writes export rows one at a time to an output stream as NDJSON or CSV.
+ * 
+ * Nothing is retained between rows, so memory use does not depend on the number of rows written.
+ * Timestamps are written as ISO-8601 local date-times, numbers and booleans keep their JSON type,
+ * and everything else is written as text.
+ */
+public abstract class ExportRowWriter {
+
+    /**
+     * Creates a writer for the given format. The stream is flushed by {@link #finish()} but never closed.
+     * 
+     * @param format Output format
+     * @param out Destination stream
+     * @param objectMapper Mapper whose factory is used for NDJSON output
+     * @return Row writer
+     */
+    public static ExportRowWriter create(ExportFormat format, OutputStream out, ObjectMapper objectMapper) throws IOException {
+        if (format == ExportFormat.CSV) {
+            return new CsvRowWriter(out);
+        }
+        return new NdjsonRowWriter(out, objectMapper);
+    }
+
+    /**
+     * Must be called once, before the first row, with the column names used for every row.
+     */
+    public abstract void writeHeader(String[] columns) throws IOException;
+
+    public abstract void writeRow(Object[] values) throws IOException;
+
+    public abstract void finish() throws IOException;
+
+    /**
+     * Escapes a value for a CSV field per RFC 4180: fields containing a comma, quote or line break are
+     * quoted and embedded quotes doubled.
+     * 
+     * @param value Raw field value, may be null
+     * @return Field ready to be written between separators
+     */
+    public static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    static Object normalize(Object value) {
+        if (value == null || value instanceof Number || value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toString();
+        }
+        return value.toString();
+    }
+
+    private static final class NdjsonRowWriter extends ExportRowWriter {
+        private final JsonGenerator generator;
+        private String[] columns;
+
+        private NdjsonRowWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void writeHeader(String[] columns) {
+            this.columns = columns.clone();
+        }
+
+        @Override
+        public void writeRow(Object[] values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < columns.length; i++) {
+                Object value = normalize(values[i]);
+                generator.writeFieldName(columns[i]);
+                if (value == null) {
+                    generator.writeNull();
+                } else if (value instanceof Boolean bool) {
+                    generator.writeBoolean(bool);
+                } else if (value instanceof Long || value instanceof Integer) {
+                    generator.writeNumber(((Number) value).longValue());
+                } else if (value instanceof Number number) {
+                    generator.writeNumber(number.toString());
+                } else {
+                    generator.writeString((String) value);
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static final class CsvRowWriter extends ExportRowWriter {
+        private static final String LINE_END = "\r\n";
+
+        private final Writer writer;
+
+        private CsvRowWriter(OutputStream out) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void writeHeader(String[] columns) throws IOException {
+            writeLine(columns);
+        }
+
+        @Override
+        public void writeRow(Object[] values) throws IOException {
+            writeLine(values);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        private void writeLine(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = normalize(values[i]);
+                writer.write(escapeCsv(value == null ? null : value.toString()));
+            }
+            writer.write(LINE_END);
+        }
+    }
+}
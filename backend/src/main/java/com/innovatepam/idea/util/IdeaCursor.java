@@ -0,0 +1,94 @@
+package com.innovatepam.idea.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import com.innovatepam.idea.exception.InvalidCursorException;
+
+/**
+ * Encodes and decodes the opaque keyset cursor used to scroll through ideas.
+ * 
+ * A cursor captures the (created_at, id) pair of the last idea on a page so the
+ * next page can seek directly past it using idx_ideas_created_at_desc instead of
+ * scanning and discarding an OFFSET. The id acts as a tie-breaker for ideas that
+ * share the same creation timestamp.
+ * 
+ * An idea's evaluation history is scrolled the same way, newest first by (created_at, id),
+ * so evaluation pages use the same cursor format.
+ */
+public final class IdeaCursor {
+
+    /** Sort order every keyset scroll over ideas must use for cursors to stay stable. */
+    public static final Sort SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private static final String CREATED_AT = "createdAt";
+    private static final String ID = "id";
+    private static final String SEPARATOR = "|";
+
+    private IdeaCursor() {
+    }
+
+    /**
+     * Encodes the keyset position of an idea into an opaque, URL-safe cursor.
+     * 
+     * @param position Keyset position produced by a scroll query sorted by {@link #SORT}
+     * @return Base64url cursor string
+     */
+    public static String encode(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            throw new IllegalArgumentException("Only keyset positions can be encoded as idea cursors");
+        }
+        Object createdAt = keyset.getKeys().get(CREATED_AT);
+        Object id = keyset.getKeys().get(ID);
+        if (createdAt == null || id == null) {
+            throw new IllegalArgumentException("Keyset position must contain createdAt and id");
+        }
+        return encode(createdAt, id);
+    }
+
+    /**
+     * Encodes a (created_at, id) pair directly, for positions that do not come from a scroll query.
+     * 
+     * @param createdAt Creation timestamp of the last row returned
+     * @param id Id of the last row returned
+     * @return Base64url cursor string
+     */
+    public static String encode(Object createdAt, Object id) {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor into the scroll position to continue from.
+     * 
+     * @param cursor Cursor previously returned by {@link #encode(ScrollPosition)}, or null/blank for the first page
+     * @return Keyset position positioned after the encoded idea
+     * @throws InvalidCursorException if the cursor is malformed
+     */
+    public static KeysetScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(CREATED_AT, LocalDateTime.parse(raw.substring(0, separator)));
+            keys.put(ID, Long.valueOf(raw.substring(separator + 1)));
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidCursorException("Invalid cursor", ex);
+        }
+    }
+}
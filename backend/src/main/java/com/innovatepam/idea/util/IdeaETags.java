@@ -0,0 +1,108 @@
+package com.innovatepam.idea.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Pageable;
+
+import com.innovatepam.idea.dto.IdeaFilter;
+import com.innovatepam.idea.dto.IdeaListingVersion;
+import com.innovatepam.idea.model.CountStrategy;
+import com.innovatepam.idea.model.IdeaField;
+
+/**
+ * Builds the entity tags used for conditional GETs on ideas.
+ * 
+ * A single idea gets a strong tag from its JPA version: every status change, comment or attachment
+ * update increments it, so an unchanged version means an identical detail response. A listing page
+ * gets a weak tag from the request (filter, page, sort, count strategy, fields) and the listing version,
+ * a counter that database triggers advance with every write to ideas. Any change to any idea retires
+ * every listing tag, which is coarser than the filter but never misses a write from another instance,
+ * an import or plain SQL, and reading it costs a primary key lookup instead of an aggregate.
+ */
+public final class IdeaETags {
+
+    private IdeaETags() {
+    }
+
+    /**
+     * @param ideaId Idea id
+     * @param version Current {@code @Version} of the idea; null is treated as 0
+     * @return Strong ETag, quoted
+     */
+    public static String forIdea(Long ideaId, Integer version) {
+        return "\"" + ideaId + "-" + (version == null ? 0 : version) + "\"";
+    }
+
+    /**
+     * Tag for a sparse detail response; each field selection is a different representation.
+     *
+     * @param fields Requested fields, or null for the full representation
+     */
+    public static String forIdea(Long ideaId, Integer version, Set<IdeaField> fields) {
+        if (fields == null) {
+            return forIdea(ideaId, version);
+        }
+        return "\"" + ideaId + "-" + (version == null ? 0 : version) + "-" + IdeaFields.key(fields) + "\"";
+    }
+
+    /**
+     * @param filter Listing filter
+     * @param pageable Requested page and sort
+     * @param countStrategy Requested count strategy
+     * @param version Current listing version
+     * @return Weak ETag, quoted and prefixed with {@code W/}
+     */
+    public static String forListing(
+        IdeaFilter filter,
+        Pageable pageable,
+        CountStrategy countStrategy,
+        IdeaListingVersion version
+    ) {
+        return forListing(filter, pageable, countStrategy, null, version);
+    }
+
+    /**
+     * @param fields Requested fields, or null for the full representation
+     */
+    public static String forListing(
+        IdeaFilter filter,
+        Pageable pageable,
+        CountStrategy countStrategy,
+        Set<IdeaField> fields,
+        IdeaListingVersion version
+    ) {
+        return "W/\"" + filterKey(filter, pageable, countStrategy, fields) + "-" + version.changeCount() + "\"";
+    }
+
+    /**
+     * Hashes the request parameters into a short key. Set contents are sorted first because their
+     * iteration order differs between JVMs, and the tag must not.
+     */
+    static String filterKey(IdeaFilter filter, Pageable pageable, CountStrategy countStrategy, Set<IdeaField> fields) {
+        String canonical = String.join("|",
+            filter.statuses().stream().map(Enum::name).sorted().collect(Collectors.joining(",")),
+            filter.categories().stream().sorted().collect(Collectors.joining(",")),
+            String.valueOf(filter.submitterId()),
+            String.valueOf(filter.createdFrom()),
+            String.valueOf(filter.createdTo()),
+            String.valueOf(filter.updatedFrom()),
+            String.valueOf(filter.updatedTo()),
+            String.valueOf(pageable.getPageNumber()),
+            String.valueOf(pageable.getPageSize()),
+            pageable.getSort().toString(),
+            String.valueOf(countStrategy),
+            IdeaFields.key(fields)
+        );
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.innovatepam.idea.util;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.innovatepam.idea.dto.FileMetadataResponse;
+import com.innovatepam.idea.dto.LatestEvaluations;
+import com.innovatepam.idea.exception.InvalidFilterException;
+import com.innovatepam.idea.model.Idea;
+import com.innovatepam.idea.model.IdeaField;
+
+/**
+ * Parses the {@code fields} request parameter and shapes sparse idea representations.
+ * 
+ * The id is always part of a sparse response so clients can correlate rows, whether or not it was
+ * asked for. Sparse responses are maps keyed by {@link IdeaField#getJsonName()} in enum order, so the
+ * same field names and JSON layout are used as in the full {@code IdeaResponse} and {@code IdeaDetailResponse}.
+ */
+public final class IdeaFields {
+
+    private IdeaFields() {
+    }
+
+    /**
+     * @param names Requested field names, as sent by the client; null or empty means all fields
+     * @param detail Whether nested fields (attachment, evaluations) are allowed
+     * @return The requested fields plus id, or null when the full representation was asked for
+     * @throws InvalidFilterException if a name is unknown or a nested field is requested on a listing
+     */
+    public static Set<IdeaField> parse(Collection<String> names, boolean detail) {
+        if (names == null || names.stream().allMatch(String::isBlank)) {
+            return null;
+        }
+        Set<IdeaField> fields = EnumSet.of(IdeaField.ID);
+        for (String name : names) {
+            if (name.isBlank()) {
+                continue;
+            }
+            IdeaField field = fromJsonName(name.trim());
+            if (!detail && !field.isColumn()) {
+                throw new InvalidFilterException("Field " + field.getJsonName() + " is only available on a single idea");
+            }
+            fields.add(field);
+        }
+        return fields;
+    }
+
+    /**
+     * @return Stable short form of a field selection, for cache keys and entity tags
+     */
+    public static String key(Set<IdeaField> fields) {
+        if (fields == null) {
+            return "*";
+        }
+        return EnumSet.copyOf(fields).stream().map(IdeaField::getJsonName).collect(Collectors.joining("."));
+    }
+
+    /**
+     * Builds a sparse representation from a loaded idea. Evaluations are passed in rather than read from
+     * the idea, because the detail view only embeds the latest ones; they come with their history cursor.
+     *
+     * @param latest Latest evaluations, required only when {@link IdeaField#EVALUATIONS} is requested
+     */
+    public static Map<String, Object> toMap(Idea idea, Set<IdeaField> fields, LatestEvaluations latest) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (IdeaField field : EnumSet.copyOf(fields)) {
+            values.put(field.getJsonName(), value(idea, field, latest));
+        }
+        if (fields.contains(IdeaField.EVALUATIONS)) {
+            values.put("evaluationsCursor", latest.nextCursor());
+        }
+        return values;
+    }
+
+    private static Object value(Idea idea, IdeaField field, LatestEvaluations latest) {
+        return switch (field) {
+            case ID -> idea.getId();
+            case TITLE -> idea.getTitle();
+            case DESCRIPTION -> idea.getDescription();
+            case CATEGORY -> idea.getCategory();
+            case STATUS -> idea.getStatus();
+            case SUBMITTER_NAME -> idea.getSubmitter().getEmail();
+            case SUBMITTER_ID -> idea.getSubmitter().getId();
+            case CREATED_AT -> idea.getCreatedAt();
+            case UPDATED_AT -> idea.getUpdatedAt();
+            case HAS_ATTACHMENT -> idea.hasAttachment();
+            case EVALUATION_COUNT -> idea.getEvaluationCount();
+            case ATTACHMENT -> idea.getAttachment() != null ? FileMetadataResponse.from(idea.getAttachment()) : null;
+            case EVALUATIONS -> latest.evaluations();
+        };
+    }
+
+    private static IdeaField fromJsonName(String name) {
+        for (IdeaField field : IdeaField.values()) {
+            if (field.getJsonName().equals(name)) {
+                return field;
+            }
+        }
+        throw new InvalidFilterException("Unknown field: " + name);
+    }
+}
@@ -0,0 +1,214 @@
+package com.innovatepam.idea.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innovatepam.idea.model.ExportFormat;
+
+/**
+ * Reads import rows one at a time from an NDJSON or CSV stream, the counterpart of {@link ExportRowWriter}.
+ *
+ * A row that cannot be parsed is returned with an error instead of aborting the read, so one bad line
+ * does not hide the rest of the file. Row numbers are 1-based and do not count the CSV header; blank
+ * lines are skipped without consuming a number.
+ */
+public abstract class ImportRowReader {
+    private long rowNumber;
+
+    /**
+     * Creates a reader for the given format. The stream is read as UTF-8 and never closed.
+     *
+     * @param format Input format
+     * @param in Source stream
+     * @param objectMapper Mapper used to parse NDJSON lines
+     * @return Row reader
+     */
+    public static ImportRowReader create(ExportFormat format, InputStream in, ObjectMapper objectMapper) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            return new CsvRowReader(reader);
+        }
+        return new NdjsonRowReader(reader, objectMapper);
+    }
+
+    /**
+     * @return The next row, or null once the stream is exhausted
+     */
+    public abstract Row next() throws IOException;
+
+    protected long nextRowNumber() {
+        return ++rowNumber;
+    }
+
+    /**
+     * A parsed row. Exactly one of {@code values} and {@code error} is non-null; values are keyed by
+     * column name and a missing or JSON null value is absent from the map.
+     */
+    public record Row(long number, Map<String, String> values, String error) {
+        static Row valid(long number, Map<String, String> values) {
+            return new Row(number, values, null);
+        }
+
+        static Row invalid(long number, String error) {
+            return new Row(number, null, error);
+        }
+    }
+
+    private static final class NdjsonRowReader extends ImportRowReader {
+        private final BufferedReader reader;
+        private final ObjectMapper objectMapper;
+
+        private NdjsonRowReader(BufferedReader reader, ObjectMapper objectMapper) {
+            this.reader = reader;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public Row next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            long number = nextRowNumber();
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (JsonProcessingException ex) {
+                return Row.invalid(number, "Malformed JSON");
+            }
+            if (node == null || !node.isObject()) {
+                return Row.invalid(number, "Row must be a JSON object");
+            }
+
+            Map<String, String> values = new HashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                JsonNode value = field.getValue();
+                if (value.isNull()) {
+                    continue;
+                }
+                if (!value.isValueNode()) {
+                    return Row.invalid(number, "Field " + field.getKey() + " must be a string, number or boolean");
+                }
+                values.put(field.getKey(), value.asText());
+            }
+            return Row.valid(number, values);
+        }
+    }
+
+    private static final class CsvRowReader extends ImportRowReader {
+        private final BufferedReader reader;
+        private String[] header;
+
+        private CsvRowReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Row next() throws IOException {
+            if (header == null) {
+                List<String> columns = readRecord();
+                if (columns == null) {
+                    return null;
+                }
+                header = columns.stream().map(String::trim).toArray(String[]::new);
+            }
+
+            List<String> fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+
+            long number = nextRowNumber();
+            if (fields == UNTERMINATED) {
+                return Row.invalid(number, "Unterminated quoted field");
+            }
+            if (fields.size() != header.length) {
+                return Row.invalid(number, "Expected " + header.length + " fields but found " + fields.size());
+            }
+
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < header.length; i++) {
+                // An empty CSV field is treated as missing, matching how the export writes nulls
+                if (!fields.get(i).isEmpty()) {
+                    values.put(header[i], fields.get(i));
+                }
+            }
+            return Row.valid(number, values);
+        }
+
+        private static final List<String> UNTERMINATED = List.of();
+
+        /**
+         * Reads one RFC 4180 record, skipping blank lines. Quoted fields may span lines.
+         */
+        private List<String> readRecord() throws IOException {
+            int c;
+            do {
+                c = reader.read();
+            } while (c == '\r' || c == '\n');
+            if (c < 0) {
+                return null;
+            }
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c < 0) {
+                        return UNTERMINATED;
+                    }
+                    if (c == '"') {
+                        reader.mark(1);
+                        int following = reader.read();
+                        if (following == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            if (following >= 0) {
+                                reader.reset();
+                            }
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c < 0 || c == '\n') {
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+        }
+    }
+}
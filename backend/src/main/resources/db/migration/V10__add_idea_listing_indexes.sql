@@ -0,0 +1,24 @@
+-- V10__add_idea_listing_indexes.sql
+-- Composite indexes for the idea listing filters and sort keys. Each index leads with the equality
+-- filter and ends with the sort key plus id, so a single status/category/submitter value returns rows
+-- already in order and LIMIT stops early. Multi-value IN filters still use the index for the filter.
+
+-- Unfiltered listings sorted by each supported key (id is the tie breaker used by the query engine)
+DROP INDEX IF EXISTS idx_ideas_created_at_desc;
+CREATE INDEX idx_ideas_created_at_desc ON ideas (created_at DESC, id DESC);
+CREATE INDEX idx_ideas_updated_at_desc ON ideas (updated_at DESC, id DESC);
+CREATE INDEX idx_ideas_title ON ideas (title, id);
+
+-- Status filter; replaces the single-column status index, which is a prefix of these
+DROP INDEX IF EXISTS idx_ideas_status;
+CREATE INDEX idx_ideas_status_created_at ON ideas (status, created_at DESC, id DESC);
+CREATE INDEX idx_ideas_status_updated_at ON ideas (status, updated_at DESC, id DESC);
+CREATE INDEX idx_ideas_status_title ON ideas (status, title, id);
+
+-- Category filter, alone or combined with status
+CREATE INDEX idx_ideas_category_created_at ON ideas (category, created_at DESC, id DESC);
+CREATE INDEX idx_ideas_category_updated_at ON ideas (category, updated_at DESC, id DESC);
+CREATE INDEX idx_ideas_category_status_created_at ON ideas (category, status, created_at DESC, id DESC);
+
+-- Submitter filter; (submitter_id, created_at) is already covered by idx_ideas_submitter_created
+CREATE INDEX idx_ideas_submitter_updated_at ON ideas (submitter_id, updated_at DESC);
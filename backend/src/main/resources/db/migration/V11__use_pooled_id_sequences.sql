@@ -0,0 +1,10 @@
+-- V11__use_pooled_id_sequences.sql
+-- Hibernate cannot batch inserts into IDENTITY columns because it has to read every generated key
+-- back immediately. Idea, IdeaEvaluation and IdeaAttachment now take ids from their serial sequences
+-- with a pooled optimizer: one nextval reserves a block of 50 ids. The increment must equal the
+-- allocationSize declared on the entities. Column defaults still use the same sequences, so plain
+-- SQL inserts keep working and can never collide with ids handed out by Hibernate.
+
+ALTER SEQUENCE ideas_id_seq INCREMENT BY 50;
+ALTER SEQUENCE idea_evaluations_id_seq INCREMENT BY 50;
+ALTER SEQUENCE idea_attachments_id_seq INCREMENT BY 50;
@@ -0,0 +1,8 @@
+-- V12__add_idea_evaluation_history_index.sql
+-- Keyset index for an idea's evaluation history. Pages are read newest first by (created_at, id), and
+-- the detail view reads the newest few per idea, so both become a bounded backward scan of this index
+-- instead of sorting every evaluation of the idea.
+
+-- Replaces the single-column idea_id index, which is a prefix of this one
+DROP INDEX IF EXISTS idx_idea_evaluations_idea_id;
+CREATE INDEX idx_idea_evaluations_idea_created_at ON idea_evaluations (idea_id, created_at, id);
@@ -0,0 +1,52 @@
+-- V13__partition_authentication_attempts.sql
+-- authentication_attempts becomes range partitioned by attempt_time, one partition per calendar month.
+-- Lockout queries only ever look at the last few minutes, so their attempt_time bound prunes the scan to
+-- the current partition, and retention becomes a DROP of whole partitions instead of a bulk DELETE.
+-- Partitions are named authentication_attempts_pYYYY_MM. AuthenticationAttemptPartitionManager creates
+-- upcoming months ahead of time and drops months that have fallen out of the retention period.
+--
+-- There is no default partition: a default partition holding rows for a month would block creating
+-- that month's partition later. The primary key has to include the partition key.
+
+DROP INDEX IF EXISTS idx_auth_attempts_email_time;
+ALTER TABLE authentication_attempts RENAME TO authentication_attempts_unpartitioned;
+ALTER TABLE authentication_attempts_unpartitioned RENAME CONSTRAINT authentication_attempts_pkey
+    TO authentication_attempts_unpartitioned_pkey;
+
+CREATE TABLE authentication_attempts (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    email VARCHAR(255) NOT NULL,
+    attempt_time TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    success BOOLEAN NOT NULL,
+    ip_address VARCHAR(45),
+    CONSTRAINT authentication_attempts_pkey PRIMARY KEY (id, attempt_time)
+) PARTITION BY RANGE (attempt_time);
+
+CREATE INDEX idx_auth_attempts_email_time ON authentication_attempts (email, attempt_time);
+
+-- One partition for every month that already has attempts, through three months ahead
+DO $$
+DECLARE
+    month_start TIMESTAMP;
+    last_month TIMESTAMP := date_trunc('month', CURRENT_TIMESTAMP) + INTERVAL '3 months';
+BEGIN
+    SELECT date_trunc('month', LEAST(COALESCE(MIN(attempt_time), CURRENT_TIMESTAMP), CURRENT_TIMESTAMP))
+    INTO month_start
+    FROM authentication_attempts_unpartitioned;
+
+    WHILE month_start <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE %I PARTITION OF authentication_attempts FOR VALUES FROM (%L) TO (%L)',
+            'authentication_attempts_p' || to_char(month_start, 'YYYY_MM'),
+            month_start,
+            month_start + INTERVAL '1 month'
+        );
+        month_start := month_start + INTERVAL '1 month';
+    END LOOP;
+END $$;
+
+INSERT INTO authentication_attempts (id, email, attempt_time, success, ip_address)
+SELECT id, email, COALESCE(attempt_time, CURRENT_TIMESTAMP), success, ip_address
+FROM authentication_attempts_unpartitioned;
+
+DROP TABLE authentication_attempts_unpartitioned;
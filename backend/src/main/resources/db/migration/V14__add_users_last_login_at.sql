@@ -0,0 +1,7 @@
+-- V14__add_users_last_login_at.sql
+-- Time of each user's latest successful login. LastLoginTracker coalesces logins per user in memory and
+-- writes them here in periodic batches, so the column can lag by up to one flush interval. It is written
+-- with plain SQL and deliberately not mapped on User, which keeps the login path from updating the
+-- users row (and its cached entity) on every login.
+
+ALTER TABLE users ADD COLUMN last_login_at TIMESTAMP;
@@ -0,0 +1,19 @@
+-- V15__complete_idea_listing_indexes.sql
+-- Fills the gaps V10 left in the idea listing indexes, so every supported sort key has an index behind
+-- each equality filter: none, status, category, category plus status, and submitter. Like V10, each index
+-- ends with the sort key plus id, so a page is read in order and LIMIT stops early.
+-- A submitter combined with status or category is not indexed separately, because one submitter's ideas
+-- are few enough to sort after the submitter index has narrowed them down.
+
+-- Category filter sorted by title
+CREATE INDEX idx_ideas_category_title ON ideas (category, title, id);
+
+-- Category and status filters together, sorted by the remaining keys
+CREATE INDEX idx_ideas_category_status_updated_at ON ideas (category, status, updated_at DESC, id DESC);
+CREATE INDEX idx_ideas_category_status_title ON ideas (category, status, title, id);
+
+-- Submitter filter sorted by title, and the updated_at index with the id tie breaker it was missing.
+-- (submitter_id, created_at) needs no id: idx_ideas_submitter_created is unique, so it has no ties.
+CREATE INDEX idx_ideas_submitter_title ON ideas (submitter_id, title, id);
+DROP INDEX IF EXISTS idx_ideas_submitter_updated_at;
+CREATE INDEX idx_ideas_submitter_updated_at ON ideas (submitter_id, updated_at DESC, id DESC);
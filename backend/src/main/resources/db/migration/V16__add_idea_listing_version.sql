@@ -0,0 +1,31 @@
+-- V16__add_idea_listing_version.sql
+-- Single-row change counter behind the idea listing ETags. Triggers advance it inside the transaction of
+-- every statement that writes ideas, including COPY imports and plain SQL, and of every submitter email
+-- change, so the counter commits and replicates together with the rows it describes. Reading it is a
+-- primary key lookup instead of an aggregate over the listing filter.
+-- Writes to ideas queue on this row until they commit. Idea writes are rare enough for that, and a bulk
+-- import advances it once per statement rather than once per row.
+
+CREATE TABLE idea_listing_version (
+    id BOOLEAN PRIMARY KEY DEFAULT TRUE CHECK (id),
+    change_count BIGINT NOT NULL
+);
+
+INSERT INTO idea_listing_version (id, change_count) VALUES (TRUE, 0);
+
+CREATE FUNCTION advance_idea_listing_version() RETURNS trigger AS $$
+BEGIN
+    UPDATE idea_listing_version SET change_count = change_count + 1;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_ideas_listing_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON ideas
+    FOR EACH STATEMENT EXECUTE FUNCTION advance_idea_listing_version();
+
+-- Listings show the submitter's email
+CREATE TRIGGER trg_users_email_listing_version
+    AFTER UPDATE OF email ON users
+    FOR EACH ROW WHEN (OLD.email IS DISTINCT FROM NEW.email)
+    EXECUTE FUNCTION advance_idea_listing_version();
@@ -0,0 +1,10 @@
+-- V8__add_idea_listing_counters.sql
+-- Denormalize the values shown on idea listing cards so list queries only read the ideas table
+-- instead of counting idea_evaluations and probing idea_attachments for every row.
+
+ALTER TABLE ideas ADD COLUMN evaluation_count INT NOT NULL DEFAULT 0;
+ALTER TABLE ideas ADD COLUMN has_attachment BOOLEAN NOT NULL DEFAULT FALSE;
+
+UPDATE ideas i SET
+    evaluation_count = (SELECT COUNT(*) FROM idea_evaluations e WHERE e.idea_id = i.id),
+    has_attachment = EXISTS (SELECT 1 FROM idea_attachments a WHERE a.idea_id = i.id);
@@ -0,0 +1,10 @@
+-- V9__add_idea_search_vector.sql
+-- Full-text search over idea title and description. The tsvector is a stored generated column so
+-- it can never drift from the source text, and titles are weighted above descriptions for ranking.
+
+ALTER TABLE ideas ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'B')
+) STORED;
+
+CREATE INDEX idx_ideas_search_vector ON ideas USING GIN (search_vector);
@@ -22,6 +22,7 @@ import com.innovatepam.auth.dto.LoginRequest;
 import com.innovatepam.auth.dto.RegisterRequest;
 import com.innovatepam.auth.repository.AuthenticationAttemptRepository;
 import com.innovatepam.auth.repository.UserRepository;
+import com.innovatepam.auth.service.AuthenticationAttemptWriter;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -41,12 +42,17 @@ class AuthControllerLoginIntegrationTest {
     @Autowired
     private AuthenticationAttemptRepository authenticationAttemptRepository;
 
+    @Autowired
+    private AuthenticationAttemptWriter authenticationAttemptWriter;
+
     private static final String TEST_EMAIL = "logintest@example.com";
     private static final String TEST_PASSWORD = "ValidPass123";
 
     @BeforeEach
     void setUp() throws Exception {
         userRepository.deleteAll();
+        // Attempts from the previous test are written outside its transaction
+        authenticationAttemptWriter.flush();
         authenticationAttemptRepository.deleteAll();
         
         // Register a test user
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.innovatepam.auth.model.AuthenticationAttempt;
@@ -30,7 +31,7 @@ class AuthenticationAttemptRepositoryIntegrationTest {
     }
 
     @Test
-    void findByEmailAndAttemptTimeAfter_WithRecentFailedAttempts_ReturnsAttempts() {
+    void findRecentFailedAttemptTimes_WithRecentFailedAttempts_ReturnsAttempts() {
         // Given
         String email = "test@example.com";
         LocalDateTime fifteenMinutesAgo = LocalDateTime.now().minusMinutes(15);
@@ -51,15 +52,15 @@ class AuthenticationAttemptRepositoryIntegrationTest {
         authenticationAttemptRepository.save(attempt2);
 
         // When
-        List<AuthenticationAttempt> attempts = authenticationAttemptRepository
-                .findRecentFailedAttempts(email, fifteenMinutesAgo);
+        List<LocalDateTime> attempts = authenticationAttemptRepository
+                .findRecentFailedAttemptTimes(email, fifteenMinutesAgo, Limit.unlimited());
 
         // Then
         assertEquals(2, attempts.size());
     }
 
     @Test
-    void findRecentFailedAttempts_WithOldAttempts_ReturnsEmpty() {
+    void findRecentFailedAttemptTimes_WithOldAttempts_ReturnsEmpty() {
         // Given
         String email = "old@example.com";
         LocalDateTime fifteenMinutesAgo = LocalDateTime.now().minusMinutes(15);
@@ -73,15 +74,15 @@ class AuthenticationAttemptRepositoryIntegrationTest {
         authenticationAttemptRepository.save(attempt);
 
         // When
-        List<AuthenticationAttempt> attempts = authenticationAttemptRepository
-                .findRecentFailedAttempts(email, fifteenMinutesAgo);
+        List<LocalDateTime> attempts = authenticationAttemptRepository
+                .findRecentFailedAttemptTimes(email, fifteenMinutesAgo, Limit.unlimited());
 
         // Then
         assertTrue(attempts.isEmpty());
     }
 
     @Test
-    void findRecentFailedAttempts_WithMixedAttempts_ReturnsOnlyFailed() {
+    void findRecentFailedAttemptTimes_WithMixedAttempts_ReturnsOnlyFailed() {
         // Given
         String email = "mixed@example.com";
         LocalDateTime fifteenMinutesAgo = LocalDateTime.now().minusMinutes(15);
@@ -109,12 +110,11 @@ class AuthenticationAttemptRepositoryIntegrationTest {
         authenticationAttemptRepository.save(failed2);
 
         // When
-        List<AuthenticationAttempt> attempts = authenticationAttemptRepository
-                .findRecentFailedAttempts(email, fifteenMinutesAgo);
+        List<LocalDateTime> attempts = authenticationAttemptRepository
+                .findRecentFailedAttemptTimes(email, fifteenMinutesAgo, Limit.unlimited());
 
         // Then
         assertEquals(2, attempts.size());
-        assertTrue(attempts.stream().noneMatch(AuthenticationAttempt::isSuccess));
     }
 
     @Test
@@ -137,7 +137,7 @@ class AuthenticationAttemptRepositoryIntegrationTest {
     }
 
     @Test
-    void findRecentFailedAttempts_WithMultipleFailures_ReturnsCorrectCount() {
+    void findRecentFailedAttemptTimes_WithMultipleFailures_ReturnsCorrectCount() {
         // Given
         String email = "count@example.com";
         LocalDateTime fifteenMinutesAgo = LocalDateTime.now().minusMinutes(15);
@@ -152,15 +152,15 @@ class AuthenticationAttemptRepositoryIntegrationTest {
         }
 
         // When
-        List<AuthenticationAttempt> attempts = authenticationAttemptRepository
-                .findRecentFailedAttempts(email, fifteenMinutesAgo);
+        List<LocalDateTime> attempts = authenticationAttemptRepository
+                .findRecentFailedAttemptTimes(email, fifteenMinutesAgo, Limit.unlimited());
 
         // Then
         assertEquals(5, attempts.size());
     }
 
     @Test
-    void findRecentFailedAttempts_WithDifferentEmails_ReturnsOnlyMatchingEmail() {
+    void findRecentFailedAttemptTimes_WithDifferentEmails_ReturnsOnlyMatchingEmail() {
         // Given
         LocalDateTime fifteenMinutesAgo = LocalDateTime.now().minusMinutes(15);
         
@@ -180,11 +180,32 @@ class AuthenticationAttemptRepositoryIntegrationTest {
         authenticationAttemptRepository.save(attempt2);
 
         // When
-        List<AuthenticationAttempt> attempts = authenticationAttemptRepository
-                .findRecentFailedAttempts("user1@example.com", fifteenMinutesAgo);
+        List<LocalDateTime> attempts = authenticationAttemptRepository
+                .findRecentFailedAttemptTimes("user1@example.com", fifteenMinutesAgo, Limit.unlimited());
 
         // Then
         assertEquals(1, attempts.size());
-        assertEquals("user1@example.com", attempts.get(0).getEmail());
+    }
+
+    @Test
+    void findRecentFailedAttemptTimes_ReturnsNewestFailuresUpToLimit() {
+        // Given
+        String email = "test@example.com";
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        for (int minutesAgo = 1; minutesAgo <= 4; minutesAgo++) {
+            AuthenticationAttempt attempt = new AuthenticationAttempt();
+            attempt.setEmail(email);
+            attempt.setAttemptTime(now.minusMinutes(minutesAgo));
+            attempt.setSuccess(minutesAgo == 2);
+            attempt.setIpAddress("192.168.1.1");
+            authenticationAttemptRepository.save(attempt);
+        }
+
+        // When
+        List<LocalDateTime> times = authenticationAttemptRepository
+                .findRecentFailedAttemptTimes(email, now.minusMinutes(15), Limit.of(2));
+
+        // Then
+        assertEquals(List.of(now.minusMinutes(1), now.minusMinutes(3)), times);
     }
 }
@@ -0,0 +1,139 @@
+package com.innovatepam.auth.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.innovatepam.auth.AuthApplication;
+import com.innovatepam.auth.model.Role;
+import com.innovatepam.auth.model.User;
+import com.innovatepam.auth.service.AuthenticationAttemptService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(
+    classes = AuthApplication.class,
+    properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
+@Testcontainers
+class UserCacheIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private AuthenticationAttemptRepository attemptRepository;
+
+    @Autowired
+    private AuthenticationAttemptService attemptService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        Role role = new Role();
+        role.setId(UUID.randomUUID());
+        role.setName("CACHE_" + UUID.randomUUID());
+        role.setCreatedAt(LocalDateTime.now());
+        roleRepository.save(role);
+
+        user = new User();
+        user.setEmail(UUID.randomUUID() + "@test.com");
+        user.setPasswordHash("hashed_password");
+        user.setRole(role);
+        user = userRepository.save(user);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        attemptRepository.deleteAll();
+    }
+
+    @Test
+    void testWarmLookupByEmailIssuesNoSql() {
+        userRepository.findByEmail(user.getEmail()).orElseThrow();
+        User found = userRepository.findByEmail(user.getEmail()).orElseThrow();
+
+        assertEquals(user.getId(), found.getId());
+        assertEquals(user.getRole().getName(), found.getRole().getName());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getNaturalIdCacheHitCount());
+        assertTrue(meterRegistry.get("hibernate.cache.natural.id.requests")
+            .tag("result", "hit").functionCounter().count() >= 2);
+        assertTrue(meterRegistry.get("hibernate.second.level.cache.requests")
+            .tag("region", "users").tag("result", "hit").functionCounter().count() >= 2);
+    }
+
+    @Test
+    void testLockByFailedAttemptsUpdatesCachedUser() {
+        userRepository.findByEmail(user.getEmail()).orElseThrow();
+
+        for (int i = 0; i < 5; i++) {
+            attemptService.recordFailure(user, "127.0.0.1");
+        }
+
+        User cached = userRepository.findByEmail(user.getEmail()).orElseThrow();
+        assertTrue(cached.isAccountLocked());
+    }
+
+    @Test
+    void testFindCurrentByEmailRefreshesStaleEntry() {
+        userRepository.findByEmail(user.getEmail()).orElseThrow();
+        // Stands in for a lock written by another instance, which this instance's cache never sees
+        jdbcTemplate.update(
+            "UPDATE users SET is_locked = true, locked_until = now() + interval '30 minutes' WHERE id = ?",
+            user.getId()
+        );
+
+        assertFalse(userRepository.findByEmail(user.getEmail()).orElseThrow().isLocked());
+        assertTrue(userRepository.findCurrentByEmail(user.getEmail()).orElseThrow().isAccountLocked());
+        assertTrue(userRepository.findByEmail(user.getEmail()).orElseThrow().isAccountLocked());
+    }
+}
@@ -0,0 +1,33 @@
+package com.innovatepam.auth.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.function.IntToLongFunction;
+
+import org.junit.jupiter.api.Test;
+
+class BCryptCostCalibratorTest {
+    // Cost 10 takes 50ms and every step doubles it
+    private static final IntToLongFunction DOUBLING = strength -> Duration.ofMillis(50).toNanos() << (strength - 10);
+
+    @Test
+    void calibrate_PicksHighestStrengthWithinTarget() {
+        assertEquals(12, BCryptCostCalibrator.calibrate(Duration.ofMillis(250), 10, 14, DOUBLING));
+    }
+
+    @Test
+    void calibrate_NeverGoesBelowMinimum() {
+        assertEquals(10, BCryptCostCalibrator.calibrate(Duration.ofMillis(10), 10, 14, DOUBLING));
+    }
+
+    @Test
+    void calibrate_NeverGoesAboveMaximum() {
+        assertEquals(14, BCryptCostCalibrator.calibrate(Duration.ofSeconds(10), 10, 14, DOUBLING));
+    }
+
+    @Test
+    void calibrate_WithFixedStrength_SkipsMeasuring() {
+        assertEquals(4, BCryptCostCalibrator.calibrate(Duration.ofMillis(250), 4, 4));
+    }
+}
@@ -0,0 +1,89 @@
+package com.innovatepam.auth.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.innovatepam.auth.exception.PasswordHashingBusyException;
+
+class BoundedPasswordEncoderTest {
+    private final PasswordEncoder delegate = mock(PasswordEncoder.class);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.close();
+    }
+
+    @Test
+    void encodeAndMatches_DelegateOnPool() {
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(5), Duration.ofSeconds(1));
+        when(delegate.encode("secret")).thenAnswer(invocation -> Thread.currentThread().getName());
+        when(delegate.matches("secret", "hash")).thenReturn(true);
+
+        assertTrue(encoder.encode("secret").startsWith("password-hash-"));
+        assertTrue(encoder.matches("secret", "hash"));
+    }
+
+    @Test
+    void encode_WhenPoolAndQueueFull_RejectsImmediately() throws Exception {
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(5), Duration.ofSeconds(3));
+        when(delegate.encode("slow")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "hash";
+        });
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("slow"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("slow"));
+        waitForQueuedTask();
+
+        PasswordHashingBusyException ex = assertThrows(PasswordHashingBusyException.class, () -> encoder.encode("slow"));
+        assertEquals(Duration.ofSeconds(3), ex.getRetryAfter());
+
+        release.countDown();
+        assertEquals("hash", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hash", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void matches_WhenWaitingTooLong_GivesUp() throws Exception {
+        encoder = new BoundedPasswordEncoder(delegate, 1, 0, Duration.ofMillis(50), Duration.ofSeconds(1));
+        when(delegate.matches("slow", "hash")).thenAnswer(invocation -> {
+            release.await();
+            return true;
+        });
+
+        assertThrows(PasswordHashingBusyException.class, () -> encoder.matches("slow", "hash"));
+    }
+
+    @Test
+    void upgradeEncoding_DelegatesDirectly() {
+        encoder = new BoundedPasswordEncoder(delegate, 1, 0, Duration.ofSeconds(1), Duration.ofSeconds(1));
+        when(delegate.upgradeEncoding("hash")).thenReturn(true);
+
+        assertTrue(encoder.upgradeEncoding("hash"));
+    }
+
+    private void waitForQueuedTask() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (encoder.getQueuedTasks() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
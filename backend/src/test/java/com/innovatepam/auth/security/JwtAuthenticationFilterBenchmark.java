@@ -0,0 +1,125 @@
+package com.innovatepam.auth.security;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.innovatepam.auth.model.Role;
+import com.innovatepam.auth.model.User;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+
+/**
+ * Per-request cost of authenticating a bearer token.
+ *
+ * {@code perRequestParser} is the filter as it was before the verified-token cache: a new parser for
+ * every request and regex sanitizing of the role. {@code sharedParser} is today's path for a token seen
+ * for the first time, and {@code cachedToken} the path for a token the filter has already verified.
+ *
+ * Not run by the build. To run it:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/test-classpath.txt
+ * java -cp target/test-classes:target/classes:$(cat target/test-classpath.txt) \
+ *     org.openjdk.jmh.Main JwtAuthenticationFilterBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class JwtAuthenticationFilterBenchmark {
+    private static final String SECRET = "benchmark-secret-key-long-enough-for-hmac-sha-256-signing";
+    private static final FilterChain CHAIN = (request, response) -> { };
+
+    private JwtService jwtService;
+    private JwtAuthenticationFilter filter;
+    private String token;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() throws Exception {
+        Role role = new Role();
+        role.setId(UUID.randomUUID());
+        role.setName("evaluator");
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setEmail("benchmark@example.com");
+        user.setRole(role);
+        user.setCreatedAt(LocalDateTime.now());
+
+        jwtService = new JwtService(SECRET, 3600);
+        filter = new JwtAuthenticationFilter(jwtService);
+        token = jwtService.generateToken(user);
+        request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        response = new MockHttpServletResponse();
+
+        // Warms the verified-token cache for cachedToken
+        filter.doFilterInternal(request, response, CHAIN);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Authentication perRequestParser() {
+        Claims claims = Jwts.parserBuilder()
+            .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+            .build()
+            .parseClaimsJws(token)
+            .getBody();
+        String role = claims.get("role", String.class).toUpperCase(Locale.ROOT)
+            .replaceAll("[^A-Z0-9_]", "_")
+            .replaceAll("_+", "_")
+            .replaceAll("^_|_$", "");
+        return new UsernamePasswordAuthenticationToken(
+            claims.getSubject(),
+            null,
+            List.of(new SimpleGrantedAuthority("ROLE_" + role))
+        );
+    }
+
+    @Benchmark
+    public Authentication sharedParser() {
+        Claims claims = jwtService.parseToken(token);
+        AuthenticatedUser principal = new AuthenticatedUser(
+            UUID.fromString(claims.get("userId", String.class)),
+            claims.getSubject(),
+            claims.get("role", String.class)
+        );
+        return new UsernamePasswordAuthenticationToken(principal, null, List.of(new SimpleGrantedAuthority("ROLE_EVALUATOR")));
+    }
+
+    @Benchmark
+    public Authentication cachedToken() throws Exception {
+        filter.doFilterInternal(request, response, CHAIN);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
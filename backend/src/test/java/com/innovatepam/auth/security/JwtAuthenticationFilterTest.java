@@ -1,6 +1,8 @@
 package com.innovatepam.auth.security;
 
 import java.io.IOException;
+import java.util.Date;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -13,6 +15,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import org.mockito.Mock;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
@@ -29,6 +32,8 @@ import jakarta.servlet.http.HttpServletResponse;
 
 @ExtendWith(MockitoExtension.class)
 class JwtAuthenticationFilterTest {
+    private static final UUID USER_ID = UUID.randomUUID();
+
     @Mock
     private JwtService jwtService;
 
@@ -53,6 +58,7 @@ class JwtAuthenticationFilterTest {
         Claims claims = mock(Claims.class, withSettings().lenient());
         when(claims.getSubject()).thenReturn(email);
         when(claims.get("role", String.class)).thenReturn(role);
+        when(claims.get("userId", String.class)).thenReturn(USER_ID.toString());
         return claims;
     }
 
@@ -72,7 +78,7 @@ class JwtAuthenticationFilterTest {
         // Then
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         assertNotNull(auth);
-        assertEquals("test@example.com", auth.getPrincipal());
+        assertEquals(new AuthenticatedUser(USER_ID, "test@example.com", "submitter"), auth.getPrincipal());
         verify(filterChain).doFilter(request, response);
     }
 
@@ -133,7 +139,7 @@ class JwtAuthenticationFilterTest {
         // Then
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         assertNotNull(auth, "Authentication should not be null");
-        assertEquals("test@example.com", auth.getPrincipal(), "Principal should be email");
+        assertEquals("test@example.com", auth.getName(), "Name should be email");
         
         String expectedAuthority = "ROLE_" + roleValue.toUpperCase(java.util.Locale.ROOT);
         assertTrue(auth.getAuthorities().stream()
@@ -221,6 +227,62 @@ class JwtAuthenticationFilterTest {
 
         // Then
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        assertEquals("user@example.com", auth.getPrincipal());
+        assertEquals("user@example.com", auth.getName());
+        assertEquals(USER_ID, ((AuthenticatedUser) auth.getPrincipal()).id());
+    }
+
+    @Test
+    void doFilterInternal_WithoutUserIdClaim_LeavesRequestUnauthenticated() throws ServletException, IOException {
+        // Given
+        Claims claims = createTestClaims("user@example.com", "submitter");
+        when(claims.get("userId", String.class)).thenReturn(null);
+        when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer valid-token");
+        when(jwtService.parseToken("valid-token")).thenReturn(claims);
+
+        // When
+        authFilter.doFilterInternal(request, response, filterChain);
+
+        // Then
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    void doFilterInternal_WithRepeatedToken_VerifiesOnce() throws ServletException, IOException {
+        // Given
+        String token = "header.payload.signature";
+        Claims claims = createTestClaims("user@example.com", "admin");
+        when(claims.getExpiration()).thenReturn(new Date(System.currentTimeMillis() + 60_000));
+        when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        when(jwtService.parseToken(token)).thenReturn(claims);
+
+        // When
+        authFilter.doFilterInternal(request, response, filterChain);
+        Authentication first = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        authFilter.doFilterInternal(request, response, filterChain);
+
+        // Then
+        Authentication second = SecurityContextHolder.getContext().getAuthentication();
+        verify(jwtService, times(1)).parseToken(token);
+        assertEquals(first.getPrincipal(), second.getPrincipal());
+        assertEquals(first.getAuthorities(), second.getAuthorities());
+    }
+
+    @Test
+    void doFilterInternal_WithExpiredCachedToken_VerifiesAgain() throws ServletException, IOException {
+        // Given
+        String token = "header.payload.signature";
+        Claims claims = createTestClaims("user@example.com", "admin");
+        when(claims.getExpiration()).thenReturn(new Date(System.currentTimeMillis() - 1));
+        when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        when(jwtService.parseToken(token)).thenReturn(claims);
+
+        // When
+        authFilter.doFilterInternal(request, response, filterChain);
+        authFilter.doFilterInternal(request, response, filterChain);
+
+        // Then
+        verify(jwtService, times(2)).parseToken(token);
     }
 }
@@ -0,0 +1,74 @@
+package com.innovatepam.auth.security;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000);
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(2, clock::get);
+
+    @Test
+    void testReturnsEntryForSameTokenUntilExpiry() {
+        VerifiedTokenCache.Entry entry = entry("header.payload.signature", 2_000);
+        cache.put(entry);
+
+        assertSame(entry, cache.get("header.payload.signature"));
+
+        clock.set(2_000);
+        assertNull(cache.get("header.payload.signature"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testSameSignatureWithDifferentPayloadMisses() {
+        cache.put(entry("header.payload.signature", 2_000));
+
+        assertNull(cache.get("header.tampered.signature"));
+    }
+
+    @Test
+    void testTokenWithoutSignatureIsNotCached() {
+        cache.put(entry("not-a-jws", 2_000));
+        cache.put(entry("header.payload.", 2_000));
+
+        assertEquals(0, cache.size());
+        assertNull(cache.get("not-a-jws"));
+    }
+
+    @Test
+    void testFullCacheDropsExpiredEntriesFirst() {
+        cache.put(entry("a.a.expired", 1_500));
+        VerifiedTokenCache.Entry live = entry("b.b.live", 5_000);
+        cache.put(live);
+        clock.set(2_000);
+
+        cache.put(entry("c.c.new", 5_000));
+
+        assertEquals(2, cache.size());
+        assertSame(live, cache.get("b.b.live"));
+    }
+
+    @Test
+    void testFullCacheOfLiveEntriesIsCleared() {
+        cache.put(entry("a.a.first", 5_000));
+        cache.put(entry("b.b.second", 5_000));
+
+        VerifiedTokenCache.Entry third = entry("c.c.third", 5_000);
+        cache.put(third);
+
+        assertEquals(1, cache.size());
+        assertSame(third, cache.get("c.c.third"));
+    }
+
+    private VerifiedTokenCache.Entry entry(String token, long expiresAtMillis) {
+        AuthenticatedUser principal = new AuthenticatedUser(UUID.randomUUID(), "user@test.com", "submitter");
+        return new VerifiedTokenCache.Entry(token, principal, List.of(), expiresAtMillis);
+    }
+}
@@ -37,6 +37,9 @@ class AuthServiceTest {
     @Mock
     private AuthenticationAttemptService attemptService;
 
+    @Mock
+    private LastLoginTracker lastLoginTracker;
+
     @Captor
     private ArgumentCaptor<User> userCaptor;
 
@@ -48,7 +51,8 @@ class AuthServiceTest {
             userRepository,
             passwordEncoder,
             jwtService,
-            attemptService
+            attemptService,
+            lastLoginTracker
         );
     }
 
@@ -72,7 +76,7 @@ class AuthServiceTest {
         User user = createTestUser("test@example.com");
         LoginRequest request = new LoginRequest("test@example.com", "Password123");
 
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(userRepository.findCurrentByEmail("test@example.com")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("Password123", user.getPasswordHash())).thenReturn(true);
         when(jwtService.generateToken(user)).thenReturn("jwt-token");
         when(jwtService.getExpirationSeconds()).thenReturn(86400L);
@@ -87,11 +91,47 @@ class AuthServiceTest {
         assertEquals(86400L, response.expiresIn());
     }
 
+    @Test
+    void login_WithOutdatedHashCost_RehashesPassword() {
+        // Given
+        User user = createTestUser("test@example.com");
+        LoginRequest request = new LoginRequest("test@example.com", "Password123");
+
+        when(userRepository.findCurrentByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("Password123", user.getPasswordHash())).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("$2a$12$hashedpassword")).thenReturn(true);
+        when(passwordEncoder.encode("Password123")).thenReturn("$2a$13$rehashedpassword");
+
+        // When
+        authService.login(request, "192.168.1.1");
+
+        // Then
+        verify(userRepository).save(userCaptor.capture());
+        assertEquals("$2a$13$rehashedpassword", userCaptor.getValue().getPasswordHash());
+    }
+
+    @Test
+    void login_WithCurrentHashCost_KeepsHash() {
+        // Given
+        User user = createTestUser("test@example.com");
+        LoginRequest request = new LoginRequest("test@example.com", "Password123");
+
+        when(userRepository.findCurrentByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("Password123", user.getPasswordHash())).thenReturn(true);
+
+        // When
+        authService.login(request, "192.168.1.1");
+
+        // Then
+        verify(passwordEncoder, never()).encode(any());
+        assertEquals("$2a$12$hashedpassword", user.getPasswordHash());
+    }
+
     @Test
     void login_WithNonExistentUser_ThrowsUnauthorizedException() {
         // Given
         LoginRequest request = new LoginRequest("unknown@example.com", "Password123");
-        when(userRepository.findByEmail("unknown@example.com")).thenReturn(Optional.empty());
+        when(userRepository.findCurrentByEmail("unknown@example.com")).thenReturn(Optional.empty());
 
         // When/Then
         ResponseStatusException ex = assertThrows(ResponseStatusException.class,
@@ -105,7 +145,7 @@ class AuthServiceTest {
         User user = createTestUser("test@example.com");
         LoginRequest request = new LoginRequest("test@example.com", "WrongPassword");
 
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(userRepository.findCurrentByEmail("test@example.com")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("WrongPassword", user.getPasswordHash())).thenReturn(false);
         when(attemptService.recordFailure(user, "192.168.1.1")).thenReturn(false);
 
@@ -119,7 +159,7 @@ class AuthServiceTest {
         User user = createTestUser("test@example.com");
         LoginRequest request = new LoginRequest("test@example.com", "WrongPassword");
 
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(userRepository.findCurrentByEmail("test@example.com")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("WrongPassword", user.getPasswordHash())).thenReturn(false);
         when(attemptService.recordFailure(user, "192.168.1.1")).thenReturn(false);
 
@@ -142,7 +182,7 @@ class AuthServiceTest {
         user.setLockedUntil(LocalDateTime.now().plusMinutes(30));
         LoginRequest request = new LoginRequest("test@example.com", "Password123");
 
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(userRepository.findCurrentByEmail("test@example.com")).thenReturn(Optional.of(user));
 
         // When/Then
         ResponseStatusException ex = assertThrows(ResponseStatusException.class,
@@ -154,10 +194,11 @@ class AuthServiceTest {
     void login_WithCorrectPassword_UnlocksAccount() {
         // Given
         User user = createTestUser("test@example.com");
-        user.setLocked(false); // Initially not locked
+        user.setLocked(true); // Lock has expired
+        user.setLockedUntil(LocalDateTime.now().minusMinutes(1));
         LoginRequest request = new LoginRequest("test@example.com", "Password123");
 
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(userRepository.findCurrentByEmail("test@example.com")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("Password123", user.getPasswordHash())).thenReturn(true);
         when(jwtService.generateToken(user)).thenReturn("jwt-token");
         when(jwtService.getExpirationSeconds()).thenReturn(86400L);
@@ -172,13 +213,31 @@ class AuthServiceTest {
         assertNull(savedUser.getLockedUntil());
     }
 
+    @Test
+    void login_WithUnlockedAccountAndCurrentHash_DoesNotWriteUser() {
+        // Given
+        User user = createTestUser("test@example.com");
+        LoginRequest request = new LoginRequest("test@example.com", "Password123");
+
+        when(userRepository.findCurrentByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("Password123", user.getPasswordHash())).thenReturn(true);
+        when(jwtService.generateToken(user)).thenReturn("jwt-token");
+
+        // When
+        authService.login(request, "192.168.1.1");
+
+        // Then
+        verify(userRepository, never()).save(any(User.class));
+        verify(lastLoginTracker).recordLogin(user.getId());
+    }
+
     @Test
     void login_NormalizesEmailToLowercase() {
         // Given
         User user = createTestUser("test@example.com");
         LoginRequest request = new LoginRequest("Test@Example.COM", "Password123");
 
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(userRepository.findCurrentByEmail("test@example.com")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("Password123", user.getPasswordHash())).thenReturn(true);
         when(jwtService.generateToken(user)).thenReturn("jwt-token");
         when(jwtService.getExpirationSeconds()).thenReturn(86400L);
@@ -187,7 +246,7 @@ class AuthServiceTest {
         authService.login(request, "192.168.1.1");
 
         // Then
-        verify(userRepository).findByEmail("test@example.com");
+        verify(userRepository).findCurrentByEmail("test@example.com");
     }
 
     @Test
@@ -196,7 +255,7 @@ class AuthServiceTest {
         User user = createTestUser("test@example.com");
         LoginRequest request = new LoginRequest("  test@example.com  ", "Password123");
 
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(userRepository.findCurrentByEmail("test@example.com")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("Password123", user.getPasswordHash())).thenReturn(true);
         when(jwtService.generateToken(user)).thenReturn("jwt-token");
         when(jwtService.getExpirationSeconds()).thenReturn(86400L);
@@ -205,7 +264,7 @@ class AuthServiceTest {
         authService.login(request, "192.168.1.1");
 
         // Then
-        verify(userRepository).findByEmail("test@example.com");
+        verify(userRepository).findCurrentByEmail("test@example.com");
     }
 
     @Test
@@ -214,7 +273,7 @@ class AuthServiceTest {
         User user = createTestUser("test@example.com");
         LoginRequest request = new LoginRequest("test@example.com", "WrongPassword");
 
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(userRepository.findCurrentByEmail("test@example.com")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("WrongPassword", user.getPasswordHash())).thenReturn(false);
         when(attemptService.recordFailure(user, "192.168.1.1")).thenReturn(true); // Account gets locked
 
@@ -230,7 +289,7 @@ class AuthServiceTest {
         User user = createTestUser("test@example.com");
         LoginRequest request = new LoginRequest("test@example.com", "Password123");
 
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(userRepository.findCurrentByEmail("test@example.com")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("Password123", user.getPasswordHash())).thenReturn(true);
         when(jwtService.generateToken(user)).thenReturn("jwt-token");
         when(jwtService.getExpirationSeconds()).thenReturn(86400L);
@@ -248,7 +307,7 @@ class AuthServiceTest {
         User user = createTestUser("test@example.com");
         LoginRequest request = new LoginRequest("test@example.com", "Password123");
 
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(userRepository.findCurrentByEmail("test@example.com")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("Password123", user.getPasswordHash())).thenReturn(true);
         when(jwtService.generateToken(user)).thenReturn("valid-jwt-token");
         when(jwtService.getExpirationSeconds()).thenReturn(86400L);
@@ -267,7 +326,7 @@ class AuthServiceTest {
         User user = createTestUser("test@example.com");
         LoginRequest request = new LoginRequest("test@example.com", "Password123");
 
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(userRepository.findCurrentByEmail("test@example.com")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("Password123", user.getPasswordHash())).thenReturn(true);
         when(jwtService.generateToken(user)).thenReturn("jwt-token");
         when(jwtService.getExpirationSeconds()).thenReturn(3600L);
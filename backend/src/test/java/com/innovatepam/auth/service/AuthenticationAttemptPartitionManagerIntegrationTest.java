@@ -0,0 +1,147 @@
+package com.innovatepam.auth.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.YearMonth;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.innovatepam.auth.model.AuthenticationAttempt;
+import com.innovatepam.auth.repository.AuthenticationAttemptRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AuthenticationAttemptPartitionManagerIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private AuthenticationAttemptRepository authenticationAttemptRepository;
+
+    @Autowired
+    private AuthenticationAttemptWriter authenticationAttemptWriter;
+
+    private JdbcTemplate jdbcTemplate;
+    private final YearMonth oldMonth = YearMonth.now().minusYears(2);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        authenticationAttemptWriter.flush();
+        authenticationAttemptRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + AuthenticationAttemptPartitionManager.partitionName(oldMonth));
+    }
+
+    @Test
+    void maintain_CreatesPartitionsAheadOfToday() {
+        // Given
+        // Retention long enough that no partition the other tests rely on is dropped
+        AuthenticationAttemptPartitionManager manager = manager(Period.ofYears(5), 2);
+        LocalDate today = LocalDate.now().plusYears(1);
+
+        // When
+        manager.maintain(today);
+
+        // Then
+        List<YearMonth> partitions = manager.existingPartitions();
+        YearMonth current = YearMonth.from(today);
+        assertTrue(partitions.containsAll(List.of(current, current.plusMonths(1), current.plusMonths(2))));
+
+        AuthenticationAttempt attempt = new AuthenticationAttempt();
+        attempt.setEmail("future@example.com");
+        attempt.setAttemptTime(current.plusMonths(2).atDay(15).atStartOfDay());
+        attempt.setSuccess(false);
+        authenticationAttemptRepository.save(attempt);
+        assertEquals(1, authenticationAttemptRepository.count());
+
+        authenticationAttemptRepository.deleteAll();
+        for (int i = 0; i <= 2; i++) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS "
+                + AuthenticationAttemptPartitionManager.partitionName(current.plusMonths(i)));
+        }
+    }
+
+    @Test
+    void maintain_DropsPartitionsOlderThanRetention() {
+        // Given
+        AuthenticationAttemptPartitionManager manager = manager(Period.ofMonths(6), 1);
+        jdbcTemplate.execute("CREATE TABLE " + AuthenticationAttemptPartitionManager.partitionName(oldMonth)
+            + " PARTITION OF authentication_attempts FOR VALUES FROM ('" + oldMonth.atDay(1)
+            + "') TO ('" + oldMonth.plusMonths(1).atDay(1) + "')");
+        AuthenticationAttempt old = new AuthenticationAttempt();
+        old.setEmail("old@example.com");
+        old.setAttemptTime(oldMonth.atDay(10).atStartOfDay());
+        old.setSuccess(false);
+        authenticationAttemptRepository.save(old);
+
+        AuthenticationAttempt recent = new AuthenticationAttempt();
+        recent.setEmail("recent@example.com");
+        recent.setAttemptTime(LocalDateTime.now().minusMinutes(1));
+        recent.setSuccess(false);
+        authenticationAttemptRepository.save(recent);
+
+        // When
+        manager.maintain(LocalDate.now());
+
+        // Then
+        List<YearMonth> partitions = manager.existingPartitions();
+        assertFalse(partitions.contains(oldMonth));
+        assertTrue(partitions.contains(YearMonth.now()));
+        assertEquals(1, authenticationAttemptRepository.count());
+        assertEquals("recent@example.com", authenticationAttemptRepository.findAll().get(0).getEmail());
+    }
+
+    @Test
+    void maintain_WhenAnotherInstanceHoldsLock_SkipsRun() throws Exception {
+        // Given
+        AuthenticationAttemptPartitionManager manager = manager(Period.ofMonths(6), 1);
+        try (Connection other = dataSource.getConnection(); Statement statement = other.createStatement()) {
+            statement.execute("SELECT pg_advisory_lock(hashtext('authentication_attempts_partitions'))");
+            try {
+                // When/Then
+                assertFalse(manager.maintain(LocalDate.now()));
+            } finally {
+                statement.execute("SELECT pg_advisory_unlock(hashtext('authentication_attempts_partitions'))");
+            }
+        }
+        assertTrue(manager.maintain(LocalDate.now()));
+    }
+
+    @Test
+    void maintain_WithZeroMonthsAhead_StillCreatesNextMonth() {
+        // Given
+        AuthenticationAttemptPartitionManager manager = manager(Period.ofYears(5), 0);
+        YearMonth nextMonth = YearMonth.now().plusMonths(1);
+
+        // When
+        manager.maintain(LocalDate.now());
+
+        // Then
+        assertTrue(manager.existingPartitions().contains(nextMonth));
+    }
+
+    private AuthenticationAttemptPartitionManager manager(Period retention, int monthsAhead) {
+        return new AuthenticationAttemptPartitionManager(dataSource, retention, monthsAhead);
+    }
+}
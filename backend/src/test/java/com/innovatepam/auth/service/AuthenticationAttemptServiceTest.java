@@ -9,6 +9,7 @@ import com.innovatepam.auth.model.Role;
 import com.innovatepam.auth.model.User;
 import com.innovatepam.auth.repository.AuthenticationAttemptRepository;
 import com.innovatepam.auth.repository.UserRepository;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -20,6 +21,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 @ExtendWith(MockitoExtension.class)
 class AuthenticationAttemptServiceTest {
@@ -29,6 +31,9 @@ class AuthenticationAttemptServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private AuthenticationAttemptWriter attemptWriter;
+
     @Captor
     private ArgumentCaptor<AuthenticationAttempt> attemptCaptor;
 
@@ -39,7 +44,12 @@ class AuthenticationAttemptServiceTest {
 
     @BeforeEach
     void setUp() {
-        attemptService = new AuthenticationAttemptService(attemptRepository, userRepository);
+        attemptService = new AuthenticationAttemptService(
+            attemptRepository,
+            userRepository,
+            attemptWriter,
+            new FailedLoginCounter(5, Duration.ofMinutes(15), 2)
+        );
     }
 
     private User createTestUser(String email) {
@@ -65,7 +75,7 @@ class AuthenticationAttemptServiceTest {
         attemptService.recordSuccess(email, ipAddress);
 
         // Then
-        verify(attemptRepository).save(attemptCaptor.capture());
+        verify(attemptWriter).submit(attemptCaptor.capture());
         AuthenticationAttempt saved = attemptCaptor.getValue();
         assertEquals(email, saved.getEmail());
         assertTrue(saved.isSuccess());
@@ -76,15 +86,15 @@ class AuthenticationAttemptServiceTest {
     void recordFailure_WithLessThanMaxAttempts_DoesNotLockAccount() {
         // Given
         User user = createTestUser("test@example.com");
-        when(attemptRepository.findRecentFailedAttempts(eq(user.getEmail()), any(LocalDateTime.class)))
-            .thenReturn(createFailedAttempts(3)); // 3 attempts, max is 5
+        when(attemptRepository.findRecentFailedAttemptTimes(eq(user.getEmail()), any(LocalDateTime.class), eq(Limit.of(5))))
+            .thenReturn(createFailureTimes(3)); // 4 with this one, max is 5
 
         // When
         boolean locked = attemptService.recordFailure(user, "192.168.1.1");
 
         // Then
         assertFalse(locked);
-        verify(attemptRepository).save(attemptCaptor.capture());
+        verify(attemptWriter).submit(attemptCaptor.capture());
         AuthenticationAttempt saved = attemptCaptor.getValue();
         assertFalse(saved.isSuccess());
         verify(userRepository, never()).save(any(User.class));
@@ -94,15 +104,15 @@ class AuthenticationAttemptServiceTest {
     void recordFailure_WithMaxAttempts_LocksAccount() {
         // Given
         User user = createTestUser("test@example.com");
-        when(attemptRepository.findRecentFailedAttempts(eq(user.getEmail()), any(LocalDateTime.class)))
-            .thenReturn(createFailedAttempts(5)); // 5 attempts, max is 5
+        when(attemptRepository.findRecentFailedAttemptTimes(eq(user.getEmail()), any(LocalDateTime.class), eq(Limit.of(5))))
+            .thenReturn(createFailureTimes(4)); // 5 with this one, max is 5
 
         // When
         boolean locked = attemptService.recordFailure(user, "192.168.1.1");
 
         // Then
         assertTrue(locked);
-        verify(attemptRepository).save(any(AuthenticationAttempt.class));
+        verify(attemptWriter).submit(any(AuthenticationAttempt.class));
         verify(userRepository).save(userCaptor.capture());
         User savedUser = userCaptor.getValue();
         assertTrue(savedUser.isLocked());
@@ -114,8 +124,8 @@ class AuthenticationAttemptServiceTest {
         // Given
         User user = createTestUser("test@example.com");
         LocalDateTime before = LocalDateTime.now();
-        when(attemptRepository.findRecentFailedAttempts(eq(user.getEmail()), any(LocalDateTime.class)))
-            .thenReturn(createFailedAttempts(5));
+        when(attemptRepository.findRecentFailedAttemptTimes(eq(user.getEmail()), any(LocalDateTime.class), eq(Limit.of(5))))
+            .thenReturn(createFailureTimes(5));
 
         // When
         attemptService.recordFailure(user, "192.168.1.1");
@@ -133,14 +143,14 @@ class AuthenticationAttemptServiceTest {
     void recordFailure_RecordsFailureAttempt() {
         // Given
         User user = createTestUser("test@example.com");
-        when(attemptRepository.findRecentFailedAttempts(eq(user.getEmail()), any(LocalDateTime.class)))
-            .thenReturn(createFailedAttempts(2));
+        when(attemptRepository.findRecentFailedAttemptTimes(eq(user.getEmail()), any(LocalDateTime.class), eq(Limit.of(5))))
+            .thenReturn(createFailureTimes(2));
 
         // When
         attemptService.recordFailure(user, "192.168.1.1");
 
         // Then
-        verify(attemptRepository).save(attemptCaptor.capture());
+        verify(attemptWriter).submit(attemptCaptor.capture());
         AuthenticationAttempt saved = attemptCaptor.getValue();
         assertEquals(user.getEmail(), saved.getEmail());
         assertFalse(saved.isSuccess());
@@ -151,14 +161,14 @@ class AuthenticationAttemptServiceTest {
         // Given
         User user = createTestUser("test@example.com");
         String ipAddress = "192.168.1.100";
-        when(attemptRepository.findRecentFailedAttempts(eq(user.getEmail()), any(LocalDateTime.class)))
-            .thenReturn(new ArrayList<>());
+        when(attemptRepository.findRecentFailedAttemptTimes(eq(user.getEmail()), any(LocalDateTime.class), eq(Limit.of(5))))
+            .thenReturn(List.of());
 
         // When
         attemptService.recordFailure(user, ipAddress);
 
         // Then
-        verify(attemptRepository).save(attemptCaptor.capture());
+        verify(attemptWriter).submit(attemptCaptor.capture());
         assertEquals(ipAddress, attemptCaptor.getValue().getIpAddress());
     }
 
@@ -166,24 +176,24 @@ class AuthenticationAttemptServiceTest {
     void recordFailure_ChecksAttemptsWithinTimeWindow() {
         // Given
         User user = createTestUser("test@example.com");
-        when(attemptRepository.findRecentFailedAttempts(eq(user.getEmail()), any(LocalDateTime.class)))
-            .thenReturn(createFailedAttempts(3));
+        when(attemptRepository.findRecentFailedAttemptTimes(eq(user.getEmail()), any(LocalDateTime.class), eq(Limit.of(5))))
+            .thenReturn(createFailureTimes(3));
 
         // When
         attemptService.recordFailure(user, "192.168.1.1");
 
         // Then
-        verify(attemptRepository).findRecentFailedAttempts(eq(user.getEmail()), argThat(time ->
+        verify(attemptRepository).findRecentFailedAttemptTimes(eq(user.getEmail()), argThat(time ->
             time.isBefore(LocalDateTime.now()) && time.isAfter(LocalDateTime.now().minusMinutes(16))
-        ));
+        ), eq(Limit.of(5)));
     }
 
     @Test
     void recordFailure_AtExactlyMaxAttempts_LocksAccount() {
         // Given
         User user = createTestUser("test@example.com");
-        when(attemptRepository.findRecentFailedAttempts(eq(user.getEmail()), any(LocalDateTime.class)))
-            .thenReturn(createFailedAttempts(5)); // Exactly 5
+        when(attemptRepository.findRecentFailedAttemptTimes(eq(user.getEmail()), any(LocalDateTime.class), eq(Limit.of(5))))
+            .thenReturn(createFailureTimes(4)); // Exactly 5 with this one
 
         // When
         boolean locked = attemptService.recordFailure(user, "192.168.1.1");
@@ -196,8 +206,8 @@ class AuthenticationAttemptServiceTest {
     void recordFailure_WithOneMoreThanMax_LocksAccount() {
         // Given
         User user = createTestUser("test@example.com");
-        when(attemptRepository.findRecentFailedAttempts(eq(user.getEmail()), any(LocalDateTime.class)))
-            .thenReturn(createFailedAttempts(6)); // More than max
+        when(attemptRepository.findRecentFailedAttemptTimes(eq(user.getEmail()), any(LocalDateTime.class), eq(Limit.of(5))))
+            .thenReturn(createFailureTimes(5)); // More than max with this one
 
         // When
         boolean locked = attemptService.recordFailure(user, "192.168.1.1");
@@ -206,15 +216,49 @@ class AuthenticationAttemptServiceTest {
         assertTrue(locked);
     }
 
-    private List<AuthenticationAttempt> createFailedAttempts(int count) {
-        List<AuthenticationAttempt> attempts = new ArrayList<>();
+    @Test
+    void recordFailure_RepeatedFailures_ReadStoredAttemptsOnlyBelowLimit() {
+        // Given
+        User user = createTestUser("test@example.com");
+        when(attemptRepository.findRecentFailedAttemptTimes(eq(user.getEmail()), any(LocalDateTime.class), eq(Limit.of(5))))
+            .thenReturn(List.of());
+
+        // When
+        boolean locked = false;
+        for (int i = 0; i < 5; i++) {
+            locked = attemptService.recordFailure(user, "192.168.1.1");
+        }
+
+        // Then
+        assertTrue(locked);
+        // Seeded on the first failure and re-read on the second to fourth, when other instances' failures
+        // could decide the lockout; the fifth reaches the limit locally
+        verify(attemptRepository, times(4)).findRecentFailedAttemptTimes(any(), any(), any());
+        verify(attemptWriter, times(5)).submit(any(AuthenticationAttempt.class));
+    }
+
+    @Test
+    void recordFailure_WithStoredFailuresOutsideWindow_DoesNotCountThem() {
+        // Given
+        User user = createTestUser("test@example.com");
+        when(attemptRepository.findRecentFailedAttemptTimes(eq(user.getEmail()), any(LocalDateTime.class), eq(Limit.of(5))))
+            .thenReturn(List.of(LocalDateTime.now().minusMinutes(20), LocalDateTime.now().minusMinutes(16)));
+
+        // When
+        boolean locked = false;
+        for (int i = 0; i < 4; i++) {
+            locked = attemptService.recordFailure(user, "192.168.1.1");
+        }
+
+        // Then
+        assertFalse(locked);
+    }
+
+    private List<LocalDateTime> createFailureTimes(int count) {
+        List<LocalDateTime> times = new ArrayList<>();
         for (int i = 0; i < count; i++) {
-            AuthenticationAttempt attempt = new AuthenticationAttempt();
-            attempt.setEmail("test@example.com");
-            attempt.setSuccess(false);
-            attempt.setIpAddress("192.168.1.1");
-            attempts.add(attempt);
+            times.add(LocalDateTime.now().minusMinutes(i + 1));
         }
-        return attempts;
+        return times;
     }
 }
@@ -0,0 +1,189 @@
+package com.innovatepam.auth.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.innovatepam.auth.model.AuthenticationAttempt;
+import com.innovatepam.auth.repository.AuthenticationAttemptRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AuthenticationAttemptWriterIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private AuthenticationAttemptRepository authenticationAttemptRepository;
+
+    @Autowired
+    private AuthenticationAttemptWriter authenticationAttemptWriter;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        authenticationAttemptWriter.flush();
+        authenticationAttemptRepository.deleteAll();
+    }
+
+    @Test
+    void flush_WritesQueuedAttemptsInBatches() {
+        // Given
+        AuthenticationAttemptWriter writer = writer(100, 2, Duration.ofMinutes(1));
+        LocalDateTime attemptTime = LocalDateTime.now().minusMinutes(1).withNano(0);
+        for (int i = 0; i < 5; i++) {
+            AuthenticationAttempt attempt = attempt("writer@example.com", false);
+            attempt.setAttemptTime(attemptTime);
+            writer.submit(attempt);
+        }
+        assertEquals(5.0, meterRegistry.get("auth.attempts.audit.backlog").gauge().value());
+
+        // When
+        writer.flush();
+
+        // Then
+        assertEquals(5, authenticationAttemptRepository.count());
+        assertEquals(5.0, meterRegistry.get("auth.attempts.audit.written").counter().count());
+        assertEquals(0.0, meterRegistry.get("auth.attempts.audit.backlog").gauge().value());
+        AuthenticationAttempt stored = authenticationAttemptRepository.findAll().get(0);
+        assertEquals("writer@example.com", stored.getEmail());
+        assertEquals(attemptTime, stored.getAttemptTime());
+        assertEquals("192.168.1.1", stored.getIpAddress());
+    }
+
+    @Test
+    void submit_WhenQueueFull_DropsAndCountsAttempt() {
+        // Given
+        AuthenticationAttemptWriter writer = writer(1, 10, Duration.ofMinutes(1));
+        writer.submit(attempt("first@example.com", true));
+
+        // When
+        writer.submit(attempt("second@example.com", true));
+        writer.flush();
+
+        // Then
+        assertEquals(1, authenticationAttemptRepository.count());
+        assertEquals(1.0, meterRegistry.get("auth.attempts.audit.dropped").tag("reason", "queue_full").counter().count());
+    }
+
+    @Test
+    void flush_WhenBatchFails_WritesRemainingRowsOneByOne() {
+        // Given
+        AuthenticationAttemptWriter writer = writer(100, 10, Duration.ofMinutes(1));
+        writer.submit(attempt("first@example.com", false));
+        writer.submit(attempt(null, false));
+        writer.submit(attempt("third@example.com", true));
+
+        // When
+        writer.flush();
+
+        // Then
+        assertEquals(2, authenticationAttemptRepository.count());
+        assertEquals(2.0, meterRegistry.get("auth.attempts.audit.written").counter().count());
+        assertEquals(1.0, meterRegistry.get("auth.attempts.audit.dropped").tag("reason", "write_failed").counter().count());
+    }
+
+    @Test
+    void flush_WhenDatabaseUnreachable_KeepsBatchQueued() {
+        // Given
+        AuthenticationAttemptWriter writer = new AuthenticationAttemptWriter(
+            new DriverManagerDataSource("jdbc:postgresql://127.0.0.1:1/unreachable"),
+            meterRegistry,
+            100,
+            10,
+            Duration.ofMinutes(1),
+            Duration.ofSeconds(10)
+        );
+        for (int i = 0; i < 3; i++) {
+            writer.submit(attempt("outage@example.com", false));
+        }
+
+        // When
+        writer.flush();
+
+        // Then
+        assertEquals(3.0, meterRegistry.get("auth.attempts.audit.backlog").gauge().value());
+        assertEquals(0.0, meterRegistry.get("auth.attempts.audit.dropped").tag("reason", "write_failed").counter().count());
+    }
+
+    @Test
+    void getPhase_StopsAfterWebServerGracefulShutdown() {
+        AuthenticationAttemptWriter writer = writer(1, 1, Duration.ofMinutes(1));
+
+        assertTrue(writer.getPhase() < WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 1024);
+    }
+
+    @Test
+    void start_WritesOnceFlushIntervalPasses() throws InterruptedException {
+        // Given
+        AuthenticationAttemptWriter writer = writer(100, 100, Duration.ofMillis(50));
+        writer.start();
+        try {
+            // When
+            writer.submit(attempt("timed@example.com", false));
+
+            // Then
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (authenticationAttemptRepository.count() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            assertEquals(1, authenticationAttemptRepository.count());
+        } finally {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void stop_DrainsQueuedAttempts() {
+        // Given
+        AuthenticationAttemptWriter writer = writer(100, 100, Duration.ofMinutes(1));
+        writer.start();
+        for (int i = 0; i < 3; i++) {
+            writer.submit(attempt("drain@example.com", true));
+        }
+
+        // When
+        writer.stop();
+
+        // Then
+        assertFalse(writer.isRunning());
+        assertEquals(3, authenticationAttemptRepository.count());
+    }
+
+    private AuthenticationAttemptWriter writer(int queueCapacity, int batchSize, Duration flushInterval) {
+        return new AuthenticationAttemptWriter(
+            dataSource,
+            meterRegistry,
+            queueCapacity,
+            batchSize,
+            flushInterval,
+            Duration.ofSeconds(10)
+        );
+    }
+
+    private static AuthenticationAttempt attempt(String email, boolean success) {
+        AuthenticationAttempt attempt = new AuthenticationAttempt();
+        attempt.setEmail(email);
+        attempt.setSuccess(success);
+        attempt.setIpAddress("192.168.1.1");
+        return attempt;
+    }
+}
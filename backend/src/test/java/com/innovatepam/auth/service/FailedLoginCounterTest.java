@@ -0,0 +1,115 @@
+package com.innovatepam.auth.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class FailedLoginCounterTest {
+    private static final long MINUTE = Duration.ofMinutes(1).toMillis();
+
+    private static final UUID A = UUID.randomUUID();
+    private static final UUID B = UUID.randomUUID();
+    private static final UUID C = UUID.randomUUID();
+
+    private final AtomicLong now = new AtomicLong(1_000 * MINUTE);
+
+    @Test
+    void recordFailure_CountsFailuresInsideWindow() {
+        FailedLoginCounter counter = new FailedLoginCounter(5, Duration.ofMinutes(15), 2, 100, now::get);
+
+        assertEquals(1, counter.recordFailure(A, List::of));
+        now.addAndGet(MINUTE);
+        assertEquals(2, counter.recordFailure(A, List::of));
+        assertEquals(1, counter.recordFailure(B, List::of));
+    }
+
+    @Test
+    void recordFailure_DropsFailuresOlderThanWindow() {
+        FailedLoginCounter counter = new FailedLoginCounter(5, Duration.ofMinutes(15), 2, 100, now::get);
+        counter.recordFailure(A, List::of);
+        counter.recordFailure(A, List::of);
+
+        now.addAndGet(16 * MINUTE);
+
+        assertEquals(1, counter.recordFailure(A, List::of));
+    }
+
+    @Test
+    void recordFailure_CapsCountAtMaxAttempts() {
+        FailedLoginCounter counter = new FailedLoginCounter(3, Duration.ofMinutes(15), 2, 100, now::get);
+        for (int i = 0; i < 10; i++) {
+            counter.recordFailure(A, List::of);
+        }
+
+        assertEquals(3, counter.recordFailure(A, List::of));
+    }
+
+    @Test
+    void recordFailure_SeedsUntrackedAccountOnce() {
+        FailedLoginCounter counter = new FailedLoginCounter(5, Duration.ofMinutes(15), 5, 100, System::currentTimeMillis);
+        AtomicInteger loads = new AtomicInteger();
+        LocalDateTime recent = LocalDateTime.now().minusMinutes(1);
+
+        assertEquals(3, counter.recordFailure(A, () -> {
+            loads.incrementAndGet();
+            return List.of(recent, recent.minusMinutes(1));
+        }));
+        assertEquals(4, counter.recordFailure(A, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        }));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void recordFailure_NearLimit_CountsFailuresStoredByOtherInstances() {
+        FailedLoginCounter counter = new FailedLoginCounter(5, Duration.ofMinutes(15), 2, 100, System::currentTimeMillis);
+        AtomicInteger loads = new AtomicInteger();
+        LocalDateTime recent = LocalDateTime.now().minusMinutes(1);
+        List<LocalDateTime> stored = List.of(recent, recent.minusMinutes(1), recent.minusMinutes(2));
+
+        // First failure here: seeded while the other instances had stored nothing yet
+        assertEquals(1, counter.recordFailure(A, List::of));
+        // Second failure here: reaches resyncFrom, so the three failures stored elsewhere count too
+        assertEquals(4, counter.recordFailure(A, () -> {
+            loads.incrementAndGet();
+            return stored;
+        }));
+        // At the limit the lockout is certain, so nothing is read
+        assertEquals(5, counter.recordFailure(A, () -> {
+            loads.incrementAndGet();
+            return stored;
+        }));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void recordFailure_BelowResyncThreshold_DoesNotQuery() {
+        FailedLoginCounter counter = new FailedLoginCounter(5, Duration.ofMinutes(15), 3, 100, now::get);
+        counter.recordFailure(A, List::of);
+
+        assertEquals(2, counter.recordFailure(A, () -> {
+            throw new AssertionError("Stored failures read below the resync threshold");
+        }));
+    }
+
+    @Test
+    void recordFailure_WhenFull_DropsIdleAccounts() {
+        FailedLoginCounter counter = new FailedLoginCounter(5, Duration.ofMinutes(15), 2, 2, now::get);
+        counter.recordFailure(A, List::of);
+        now.addAndGet(16 * MINUTE);
+        counter.recordFailure(B, List::of);
+
+        counter.recordFailure(C, List::of);
+
+        assertEquals(2, counter.size());
+        assertEquals(2, counter.recordFailure(B, List::of));
+    }
+}
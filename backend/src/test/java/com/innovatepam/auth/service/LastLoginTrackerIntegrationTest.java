@@ -0,0 +1,122 @@
+package com.innovatepam.auth.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.innovatepam.auth.model.Role;
+import com.innovatepam.auth.model.User;
+import com.innovatepam.auth.repository.RoleRepository;
+import com.innovatepam.auth.repository.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class LastLoginTrackerIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JdbcTemplate jdbcTemplate;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        userRepository.deleteAll();
+        Role role = roleRepository.findByName("submitter")
+            .orElseThrow(() -> new RuntimeException("Submitter role not found in test data"));
+        user = new User();
+        user.setEmail("lastlogin@example.com");
+        user.setPasswordHash("$2a$12$hashedpassword");
+        user.setRole(role);
+        userRepository.save(user);
+    }
+
+    @Test
+    void flush_WritesLatestLoginPerUserOnce() {
+        // Given
+        LastLoginTracker tracker = new LastLoginTracker(dataSource, meterRegistry, 100);
+        LocalDateTime first = LocalDateTime.now().minusMinutes(2).withNano(0);
+        LocalDateTime latest = first.plusMinutes(1);
+        tracker.recordLogin(user.getId(), first);
+        tracker.recordLogin(user.getId(), latest);
+        assertEquals(1.0, meterRegistry.get("auth.last-login.pending").gauge().value());
+
+        // When
+        tracker.flush();
+
+        // Then
+        assertEquals(latest, lastLoginAt(user.getId()));
+        assertEquals(1.0, meterRegistry.get("auth.last-login.written").counter().count());
+        assertEquals(0.0, meterRegistry.get("auth.last-login.pending").gauge().value());
+    }
+
+    @Test
+    void flush_NeverMovesLastLoginBackwards() {
+        // Given
+        LastLoginTracker tracker = new LastLoginTracker(dataSource, meterRegistry, 100);
+        LocalDateTime latest = LocalDateTime.now().withNano(0);
+        tracker.recordLogin(user.getId(), latest);
+        tracker.flush();
+
+        // When
+        tracker.recordLogin(user.getId(), latest.minusMinutes(5));
+        tracker.flush();
+
+        // Then
+        assertEquals(latest, lastLoginAt(user.getId()));
+    }
+
+    @Test
+    void stop_WritesPendingLogins() {
+        // Given
+        LastLoginTracker tracker = new LastLoginTracker(dataSource, meterRegistry, 100);
+        tracker.start();
+        tracker.recordLogin(user.getId());
+        assertNull(lastLoginAt(user.getId()));
+
+        // When
+        tracker.stop();
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("auth.last-login.written").counter().count());
+    }
+
+    @Test
+    void getPhase_StopsAfterWebServerGracefulShutdown() {
+        LastLoginTracker tracker = new LastLoginTracker(dataSource, meterRegistry, 100);
+
+        assertTrue(tracker.getPhase() < WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 1024);
+    }
+
+    private LocalDateTime lastLoginAt(UUID userId) {
+        return jdbcTemplate.queryForObject(
+            "SELECT last_login_at FROM users WHERE id = ?",
+            LocalDateTime.class,
+            userId
+        );
+    }
+}
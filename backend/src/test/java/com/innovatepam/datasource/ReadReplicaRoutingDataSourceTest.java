@@ -0,0 +1,140 @@
+package com.innovatepam.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class ReadReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource firstReplica;
+
+    @Mock
+    private DataSource secondReplica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private ReplicaPool first;
+    private ReplicaPool second;
+    private ReadYourWritesTracker tracker;
+    private ReadReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        first = new ReplicaPool("replica-1", firstReplica);
+        second = new ReplicaPool("replica-2", secondReplica);
+        first.markUp();
+        second.markUp();
+        tracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+        routing = new ReadReplicaRoutingDataSource(
+            primary, new ReplicaPools(List.of(first, second), Duration.ofSeconds(1), Duration.ofSeconds(10)), tracker
+        );
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testReadOnlyTransactionsRotateOverHealthyReplicas() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(first, routing.selectReplica());
+        assertSame(second, routing.selectReplica());
+
+        second.markDown("down");
+        assertSame(first, routing.selectReplica());
+        assertSame(first, routing.selectReplica());
+    }
+
+    @Test
+    void testReadWriteTransactionUsesPrimary() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertSame(primaryConnection, routing.getConnection());
+        verify(firstReplica, never()).getConnection();
+    }
+
+    @Test
+    void testFailingReplicaIsMarkedDownAndPrimaryUsed() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        second.markDown("down");
+        when(firstReplica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertSame(primaryConnection, routing.getConnection());
+        assertFalse(first.isHealthy());
+        assertEquals("Connection refused", first.getLastError());
+    }
+
+    @Test
+    void testCommittedWriteKeepsUsersReadsOnPrimary() throws SQLException {
+        authenticate("alice@test.com");
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        routing.getConnection();
+        routing.getConnection();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+        synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertTrue(tracker.isWithinWindow("alice@test.com"));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertNull(routing.selectReplica());
+
+        authenticate("bob@test.com");
+        assertSame(first, routing.selectReplica());
+    }
+
+    @Test
+    void testRolledBackWriteIsNotTracked() throws SQLException {
+        authenticate("alice@test.com");
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        routing.getConnection();
+
+        TransactionSynchronizationManager.getSynchronizations().get(0)
+            .afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertFalse(tracker.isWithinWindow("alice@test.com"));
+    }
+
+    private void authenticate(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+            UsernamePasswordAuthenticationToken.authenticated(email, null, List.of())
+        );
+    }
+}
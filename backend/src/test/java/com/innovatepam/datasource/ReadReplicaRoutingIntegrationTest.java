@@ -0,0 +1,110 @@
+package com.innovatepam.datasource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.innovatepam.auth.AuthApplication;
+
+@SpringBootTest(classes = AuthApplication.class)
+@Testcontainers
+class ReadReplicaRoutingIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    // Both replicas are pools on the same server, told apart by their application_name
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.hikari.data-source-properties.ApplicationName", () -> "primary");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("app.datasource.routing.replicas[0].name", () -> "replica-it");
+        registry.add("app.datasource.routing.replicas[0].url", postgres::getJdbcUrl);
+        registry.add("app.datasource.routing.replicas[1].name", () -> "replica-down");
+        registry.add("app.datasource.routing.replicas[1].url", () -> "jdbc:postgresql://localhost:1/none");
+        registry.add("app.datasource.routing.read-your-writes-window", () -> "PT1M");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaPools replicaPools;
+
+    @BeforeEach
+    void setUp() {
+        replicaPools.checkHealth();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testHealthCheckTakesUnreachableReplicaOutOfRotation() {
+        List<ReplicaPool> pools = replicaPools.getPools();
+
+        assertTrue(pools.get(0).isHealthy());
+        assertFalse(pools.get(1).isHealthy());
+    }
+
+    @Test
+    void testReadOnlyTransactionsUseReplica() {
+        assertEquals("replica-it", applicationName(true));
+        assertEquals("replica-it", applicationName(true));
+        assertEquals("primary", applicationName(false));
+    }
+
+    @Test
+    void testReadsStayOnPrimaryAfterOwnWrite() {
+        authenticate("writer@test.com");
+        assertEquals("replica-it", applicationName(true));
+
+        assertEquals("primary", applicationName(false));
+        assertEquals("primary", applicationName(true));
+
+        authenticate("reader@test.com");
+        assertEquals("replica-it", applicationName(true));
+    }
+
+    private String applicationName(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status ->
+            jdbcTemplate.queryForObject("SELECT current_setting('application_name')", String.class)
+        );
+    }
+
+    private void authenticate(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+            UsernamePasswordAuthenticationToken.authenticated(email, null, List.of())
+        );
+    }
+}
@@ -0,0 +1,46 @@
+package com.innovatepam.datasource;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class ReadYourWritesTrackerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), clock::get);
+
+    @Test
+    void testWriteKeepsOnlyThatUserWithinWindow() {
+        tracker.recordWrite("alice@test.com");
+
+        clock.addAndGet(Duration.ofSeconds(4).toNanos());
+        assertTrue(tracker.isWithinWindow("alice@test.com"));
+        assertFalse(tracker.isWithinWindow("bob@test.com"));
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertFalse(tracker.isWithinWindow("alice@test.com"));
+    }
+
+    @Test
+    void testLaterWriteExtendsWindow() {
+        tracker.recordWrite("alice@test.com");
+        clock.addAndGet(Duration.ofSeconds(4).toNanos());
+        tracker.recordWrite("alice@test.com");
+        clock.addAndGet(Duration.ofSeconds(4).toNanos());
+
+        assertTrue(tracker.isWithinWindow("alice@test.com"));
+    }
+
+    @Test
+    void testZeroWindowDisablesTracking() {
+        ReadYourWritesTracker disabled = new ReadYourWritesTracker(Duration.ZERO, clock::get);
+        disabled.recordWrite("alice@test.com");
+
+        assertFalse(disabled.isEnabled());
+        assertFalse(disabled.isWithinWindow("alice@test.com"));
+        assertFalse(tracker.isWithinWindow(null));
+    }
+}
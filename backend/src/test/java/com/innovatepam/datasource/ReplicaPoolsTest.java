@@ -0,0 +1,106 @@
+package com.innovatepam.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyString;
+import org.mockito.Mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaPoolsTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private ReplicaPool pool;
+    private ReplicaPools pools;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ReplicaPool("replica-1", dataSource);
+        pools = new ReplicaPools(List.of(pool), Duration.ofSeconds(2), Duration.ofSeconds(10));
+    }
+
+    @Test
+    void testReplicaStartsOutOfRotation() {
+        assertFalse(pool.isHealthy());
+        assertNull(pools.next());
+    }
+
+    @Test
+    void testReplicaWithinLagIsMarkedUp() throws SQLException {
+        stubLag(3.5, false);
+
+        pools.checkHealth();
+
+        assertTrue(pool.isHealthy());
+        assertEquals(pool, pools.next());
+        verify(statement).setQueryTimeout(2);
+    }
+
+    @Test
+    void testLaggingReplicaIsMarkedDown() throws SQLException {
+        pool.markUp();
+        stubLag(12, false);
+
+        pools.checkHealth();
+
+        assertFalse(pool.isHealthy());
+        assertTrue(pool.getLastError().contains("lag"));
+    }
+
+    @Test
+    void testReplicaWithoutReplayedTransactionIsMarkedDown() throws SQLException {
+        pool.markUp();
+        stubLag(0, true);
+
+        pools.checkHealth();
+
+        assertFalse(pool.isHealthy());
+    }
+
+    @Test
+    void testUnreachableReplicaIsMarkedDown() throws SQLException {
+        pool.markUp();
+        when(dataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        pools.checkHealth();
+
+        assertFalse(pool.isHealthy());
+        assertEquals("Connection refused", pool.getLastError());
+    }
+
+    private void stubLag(double seconds, boolean isNull) throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(seconds);
+        when(resultSet.wasNull()).thenReturn(isNull);
+    }
+}
@@ -7,12 +7,14 @@ import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -22,6 +24,9 @@ import org.springframework.test.web.servlet.MockMvc;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,10 +41,12 @@ import com.innovatepam.auth.model.User;
 import com.innovatepam.auth.repository.RoleRepository;
 import com.innovatepam.auth.repository.UserRepository;
 import com.innovatepam.auth.security.JwtService;
+import com.innovatepam.idea.dto.AddCommentRequest;
 import com.innovatepam.idea.dto.UpdateIdeaStatusRequest;
 import com.innovatepam.idea.model.Idea;
 import com.innovatepam.idea.model.IdeaStatus;
 import com.innovatepam.idea.repository.IdeaRepository;
+import com.innovatepam.idea.service.IdeaFacetService;
 
 @SpringBootTest(classes = AuthApplication.class)
 @AutoConfigureMockMvc
@@ -82,6 +89,9 @@ class IdeaControllerIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private IdeaFacetService ideaFacetService;
+
     private String submitterToken;
     private String evaluatorToken;
     private User submitter;
@@ -183,7 +193,115 @@ class IdeaControllerIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content", hasSize(greaterThanOrEqualTo(1))))
                 .andExpect(jsonPath("$.content[0].title", notNullValue()))
-                .andExpect(jsonPath("$.pageable", notNullValue()));
+                .andExpect(jsonPath("$.pageable", notNullValue()))
+                .andExpect(jsonPath("$.pageable.countStrategy", is("EXACT")))
+                .andExpect(jsonPath("$.pageable.exactTotal", is(true)));
+    }
+
+    @Test
+    void testGetAllIdeasWithEstimatedCount() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            Idea idea = new Idea();
+            idea.setTitle("Estimated " + i);
+            idea.setDescription("Description");
+            idea.setCategory("Process Improvement");
+            idea.setSubmitter(submitter);
+            idea.onCreate();
+            ideaRepository.save(idea);
+        }
+
+        mockMvc.perform(get("/api/v1/ideas")
+                .header("Authorization", "Bearer " + submitterToken)
+                .param("page", "0")
+                .param("size", "2")
+                .param("countStrategy", "ESTIMATED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.pageable.countStrategy", is("ESTIMATED")))
+                .andExpect(jsonPath("$.pageable.totalElements", greaterThanOrEqualTo(1)));
+    }
+
+    @Test
+    void testSearchIdeas() throws Exception {
+        Idea match = new Idea();
+        match.setTitle("Carpool scheduling");
+        match.setDescription("Match colleagues commuting from the same area");
+        match.setCategory("Sustainability");
+        match.setSubmitter(submitter);
+        match.onCreate();
+        ideaRepository.saveAndFlush(match);
+
+        mockMvc.perform(get("/api/v1/ideas/search")
+                .header("Authorization", "Bearer " + submitterToken)
+                .param("q", "carpooling")
+                .param("category", "Sustainability"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].title", is("Carpool scheduling")))
+                .andExpect(jsonPath("$.pageable.totalElements", is(1)));
+    }
+
+    @Test
+    void testSearchIdeasWithBlankQuery() throws Exception {
+        mockMvc.perform(get("/api/v1/ideas/search")
+                .header("Authorization", "Bearer " + submitterToken)
+                .param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetFacets() throws Exception {
+        ideaFacetService.reconcile();
+
+        mockMvc.perform(get("/api/v1/ideas/facets")
+                .header("Authorization", "Bearer " + submitterToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.matrix['Process Improvement'].SUBMITTED", greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.statusTotals.SUBMITTED", greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.total", greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.reconciledAt", notNullValue()));
+    }
+
+    @Test
+    void testScrollIdeasFollowsCursor() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            Idea idea = new Idea();
+            idea.setTitle("Scroll Idea " + i);
+            idea.setDescription("Description");
+            idea.setCategory("Scrolling");
+            idea.setSubmitter(evaluator);
+            idea.onCreate();
+            ideaRepository.save(idea);
+        }
+
+        String firstPage = mockMvc.perform(get("/api/v1/ideas/scroll")
+                .header("Authorization", "Bearer " + submitterToken)
+                .param("category", "Scrolling")
+                .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.hasNext", is(true)))
+                .andExpect(jsonPath("$.nextCursor", notNullValue()))
+                .andReturn().getResponse().getContentAsString();
+
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/v1/ideas/scroll")
+                .header("Authorization", "Bearer " + submitterToken)
+                .param("category", "Scrolling")
+                .param("size", "2")
+                .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext", is(false)));
+    }
+
+    @Test
+    void testScrollIdeasWithInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/ideas/scroll")
+                .header("Authorization", "Bearer " + submitterToken)
+                .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -197,6 +315,167 @@ class IdeaControllerIntegrationTest {
                 .andExpect(jsonPath("$.submitterName", is("submitter@test.com")));
     }
 
+    @Test
+    void testGetIdeasByIds() throws Exception {
+        Idea other = new Idea();
+        other.setTitle("Other Idea");
+        other.setDescription("Other Description");
+        other.setCategory("Innovation");
+        other.setSubmitter(evaluator);
+        other.onCreate();
+        other = ideaRepository.save(other);
+
+        mockMvc.perform(get("/api/v1/ideas/batch")
+                .header("Authorization", "Bearer " + submitterToken)
+                .param("ids", other.getId() + ",99999," + testIdea.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ideas['" + other.getId() + "'].title", is("Other Idea")))
+                .andExpect(jsonPath("$.ideas['" + testIdea.getId() + "'].submitterName", is("submitter@test.com")))
+                .andExpect(jsonPath("$.missingIds", hasSize(1)))
+                .andExpect(jsonPath("$.missingIds[0]", is(99999)));
+
+        mockMvc.perform(get("/api/v1/ideas/batch")
+                .header("Authorization", "Bearer " + submitterToken)
+                .param("ids", testIdea.getId().toString())
+                .param("view", "DETAIL"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ideas['" + testIdea.getId() + "'].description", is("Test Description")))
+                .andExpect(jsonPath("$.ideas['" + testIdea.getId() + "'].evaluations", hasSize(0)))
+                .andExpect(jsonPath("$.missingIds", hasSize(0)));
+    }
+
+    @Test
+    void testGetIdeasByIdsRequiresIds() throws Exception {
+        mockMvc.perform(get("/api/v1/ideas/batch")
+                .header("Authorization", "Bearer " + submitterToken)
+                .param("ids", ""))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetIdeaByIdHonorsIfNoneMatch() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/ideas/" + testIdea.getId())
+                .header("Authorization", "Bearer " + submitterToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/ideas/" + testIdea.getId())
+                .header("Authorization", "Bearer " + submitterToken)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        UpdateIdeaStatusRequest request = new UpdateIdeaStatusRequest(IdeaStatus.UNDER_REVIEW, "Moving to review");
+        mockMvc.perform(patch("/api/v1/ideas/" + testIdea.getId() + "/status")
+                .header("Authorization", "Bearer " + evaluatorToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/ideas/" + testIdea.getId())
+                .header("Authorization", "Bearer " + submitterToken)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$.status", is("UNDER_REVIEW")));
+    }
+
+    @Test
+    void testGetIdeaByIdChangesETagAfterComment() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/ideas/" + testIdea.getId())
+                .header("Authorization", "Bearer " + submitterToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(post("/api/v1/ideas/" + testIdea.getId() + "/comments")
+                .header("Authorization", "Bearer " + evaluatorToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new AddCommentRequest("Needs a cost estimate"))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/v1/ideas/" + testIdea.getId())
+                .header("Authorization", "Bearer " + submitterToken)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$.evaluations[0].comment", is("Needs a cost estimate")));
+    }
+
+    @Test
+    void testGetAllIdeasHonorsIfNoneMatch() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/ideas")
+                .header("Authorization", "Bearer " + submitterToken)
+                .param("category", "Process Improvement"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/ideas")
+                .header("Authorization", "Bearer " + submitterToken)
+                .param("category", "Process Improvement")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(multipart("/api/v1/ideas")
+                .param("title", "Fresh Idea")
+                .param("description", "Changes the listing")
+                .param("category", "Process Improvement")
+                .header("Authorization", "Bearer " + submitterToken))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/v1/ideas")
+                .header("Authorization", "Bearer " + submitterToken)
+                .param("category", "Process Improvement")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+
+    @Test
+    void testGetAllIdeasWithSparseFields() throws Exception {
+        mockMvc.perform(get("/api/v1/ideas")
+                .header("Authorization", "Bearer " + submitterToken)
+                .param("fields", "title,status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id", is(testIdea.getId().intValue())))
+                .andExpect(jsonPath("$.content[0].title", is("Test Idea")))
+                .andExpect(jsonPath("$.content[0].status", is("SUBMITTED")))
+                .andExpect(jsonPath("$.content[0].submitterName").doesNotExist())
+                .andExpect(jsonPath("$.content[0].createdAt").doesNotExist())
+                .andExpect(jsonPath("$.pageable.totalElements", is(1)));
+
+        mockMvc.perform(get("/api/v1/ideas")
+                .header("Authorization", "Bearer " + submitterToken)
+                .param("fields", "title,evaluations"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetIdeaByIdWithSparseFields() throws Exception {
+        mockMvc.perform(get("/api/v1/ideas/" + testIdea.getId())
+                .header("Authorization", "Bearer " + submitterToken)
+                .param("fields", "title,submitterName"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title", is("Test Idea")))
+                .andExpect(jsonPath("$.submitterName", is("submitter@test.com")))
+                .andExpect(jsonPath("$.description").doesNotExist())
+                .andExpect(jsonPath("$.evaluations").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/ideas/" + testIdea.getId())
+                .header("Authorization", "Bearer " + submitterToken)
+                .param("fields", "status,evaluations"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.evaluations", hasSize(0)))
+                .andExpect(jsonPath("$.title").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/ideas/" + testIdea.getId())
+                .header("Authorization", "Bearer " + submitterToken)
+                .param("fields", "title,passwordHash"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Unknown field: passwordHash")));
+    }
+
     @Test
     void testGetIdeaByIdNotFound() throws Exception {
         mockMvc.perform(get("/api/v1/ideas/99999")
@@ -250,6 +529,40 @@ class IdeaControllerIntegrationTest {
                 .andExpect(jsonPath("$.content[*].status", everyItem(is("SUBMITTED"))));
     }
 
+    @Test
+    void testFilterByStatusSetAndSortByTitle() throws Exception {
+        Idea reviewed = new Idea();
+        reviewed.setTitle("Another Idea");
+        reviewed.setDescription("Description");
+        reviewed.setCategory("Process Improvement");
+        reviewed.setSubmitter(submitter);
+        reviewed.setStatus(IdeaStatus.UNDER_REVIEW);
+        reviewed.onCreate();
+        ideaRepository.save(reviewed);
+
+        mockMvc.perform(get("/api/v1/ideas")
+                .header("Authorization", "Bearer " + submitterToken)
+                .param("status", "SUBMITTED", "UNDER_REVIEW")
+                .param("category", "Process Improvement")
+                .param("submitterId", submitter.getId().toString())
+                .param("createdFrom", LocalDateTime.now().minusDays(1).toString())
+                .param("sortBy", "TITLE")
+                .param("direction", "ASC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].title", is("Another Idea")))
+                .andExpect(jsonPath("$.content[1].title", is("Test Idea")));
+    }
+
+    @Test
+    void testFilterWithInvertedDateRange() throws Exception {
+        mockMvc.perform(get("/api/v1/ideas")
+                .header("Authorization", "Bearer " + submitterToken)
+                .param("createdFrom", "2024-02-01T00:00:00")
+                .param("createdTo", "2024-01-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testCreateIdeaWithInvalidFileType() throws Exception {
         MockMultipartFile invalidFile = new MockMultipartFile(
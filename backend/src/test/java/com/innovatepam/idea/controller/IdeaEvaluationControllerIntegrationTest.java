@@ -1,6 +1,8 @@
 package com.innovatepam.idea.controller;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
@@ -28,6 +30,7 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import com.innovatepam.auth.AuthApplication;
 import com.innovatepam.auth.model.Role;
 import com.innovatepam.auth.model.User;
@@ -35,6 +38,7 @@ import com.innovatepam.auth.repository.RoleRepository;
 import com.innovatepam.auth.repository.UserRepository;
 import com.innovatepam.auth.security.JwtService;
 import com.innovatepam.idea.dto.AddCommentRequest;
+import com.innovatepam.idea.dto.BulkStatusUpdateRequest;
 import com.innovatepam.idea.dto.UpdateIdeaStatusRequest;
 import com.innovatepam.idea.model.Idea;
 import com.innovatepam.idea.model.IdeaStatus;
@@ -187,6 +191,125 @@ class IdeaEvaluationControllerIntegrationTest {
                 .andExpect(jsonPath("$.status", is("UNDER_REVIEW")));
     }
 
+    @Test
+    void testBulkUpdateIdeaStatus() throws Exception {
+        Idea accepted = new Idea();
+        accepted.setTitle("Accepted Idea");
+        accepted.setDescription("Already decided");
+        accepted.setCategory("Process Improvement");
+        accepted.setSubmitter(evaluator);
+        accepted.setStatus(IdeaStatus.ACCEPTED);
+        accepted.onCreate();
+        accepted = ideaRepository.save(accepted);
+
+        List<Long> ids = new ArrayList<>();
+        ids.add(testIdea.getId());
+        for (int i = 0; i < 3; i++) {
+            Idea idea = new Idea();
+            idea.setTitle("Backlog Idea " + i);
+            idea.setDescription("Waiting for triage");
+            idea.setCategory("Process Improvement");
+            idea.setSubmitter(i == 0 ? admin : i == 1 ? evaluator : submitter);
+            idea.setStatus(IdeaStatus.SUBMITTED);
+            idea.onCreate();
+            ids.add(ideaRepository.save(idea).getId());
+        }
+        ids.add(accepted.getId());
+        ids.add(999999L);
+
+        BulkStatusUpdateRequest request = new BulkStatusUpdateRequest(ids, IdeaStatus.UNDER_REVIEW, "Triage");
+
+        mockMvc.perform(patch("/api/v1/ideas/status")
+                .header("Authorization", "Bearer " + evaluatorToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated", is(4)))
+                .andExpect(jsonPath("$.failed", is(2)))
+                .andExpect(jsonPath("$.results", hasSize(6)))
+                .andExpect(jsonPath("$.results[0].outcome", is("UPDATED")))
+                .andExpect(jsonPath("$.results[4].outcome", is("CONFLICT")))
+                .andExpect(jsonPath("$.results[4].status", is("ACCEPTED")))
+                .andExpect(jsonPath("$.results[5].outcome", is("NOT_FOUND")));
+
+        ideaRepository.flush();
+        mockMvc.perform(get("/api/v1/ideas/" + testIdea.getId() + "/evaluations")
+                .header("Authorization", "Bearer " + evaluatorToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.evaluations", hasSize(1)))
+                .andExpect(jsonPath("$.evaluations[0].comment", is("Triage")));
+    }
+
+    @Test
+    void testEvaluationHistoryIsCursorPaginated() throws Exception {
+        for (int i = 0; i < 12; i++) {
+            mockMvc.perform(post("/api/v1/ideas/" + testIdea.getId() + "/comments")
+                    .header("Authorization", "Bearer " + adminToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new AddCommentRequest("Comment " + i))))
+                    .andExpect(status().isCreated());
+        }
+
+        String firstPage = mockMvc.perform(get("/api/v1/ideas/" + testIdea.getId() + "/evaluations")
+                .header("Authorization", "Bearer " + submitterToken)
+                .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.evaluations", hasSize(5)))
+                .andExpect(jsonPath("$.evaluations[0].comment", is("Comment 11")))
+                .andExpect(jsonPath("$.hasNext", is(true)))
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/api/v1/ideas/" + testIdea.getId() + "/evaluations")
+                .header("Authorization", "Bearer " + submitterToken)
+                .param("size", "5")
+                .param("cursor", JsonPath.<String>read(firstPage, "$.nextCursor")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.evaluations", hasSize(5)))
+                .andExpect(jsonPath("$.evaluations[0].comment", is("Comment 6")));
+
+        // The detail view embeds the newest ten and hands over to the history endpoint for the rest
+        String detail = mockMvc.perform(get("/api/v1/ideas/" + testIdea.getId())
+                .header("Authorization", "Bearer " + submitterToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.evaluations", hasSize(10)))
+                .andExpect(jsonPath("$.evaluations[9].comment", is("Comment 2")))
+                .andExpect(jsonPath("$.evaluationsCursor", notNullValue()))
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/api/v1/ideas/" + testIdea.getId() + "/evaluations")
+                .header("Authorization", "Bearer " + submitterToken)
+                .param("cursor", JsonPath.<String>read(detail, "$.evaluationsCursor")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.evaluations", hasSize(2)))
+                .andExpect(jsonPath("$.evaluations[0].comment", is("Comment 1")))
+                .andExpect(jsonPath("$.hasNext", is(false)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void testEvaluationHistoryRejectsInvalidPaging() throws Exception {
+        mockMvc.perform(get("/api/v1/ideas/" + testIdea.getId() + "/evaluations")
+                .header("Authorization", "Bearer " + submitterToken)
+                .param("size", "0"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/ideas/" + testIdea.getId() + "/evaluations")
+                .header("Authorization", "Bearer " + submitterToken)
+                .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testBulkUpdateIdeaStatusRequiresIds() throws Exception {
+        BulkStatusUpdateRequest request = new BulkStatusUpdateRequest(List.of(), IdeaStatus.UNDER_REVIEW, "Triage");
+
+        mockMvc.perform(patch("/api/v1/ideas/status")
+                .header("Authorization", "Bearer " + evaluatorToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testUpdateIdeaStatusForbiddenForSubmitter() throws Exception {
         // Arrange
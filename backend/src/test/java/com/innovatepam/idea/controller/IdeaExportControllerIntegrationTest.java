@@ -0,0 +1,186 @@
+package com.innovatepam.idea.controller;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innovatepam.auth.AuthApplication;
+import com.innovatepam.auth.model.Role;
+import com.innovatepam.auth.model.User;
+import com.innovatepam.auth.repository.RoleRepository;
+import com.innovatepam.auth.repository.UserRepository;
+import com.innovatepam.auth.security.JwtService;
+import com.innovatepam.idea.model.Idea;
+import com.innovatepam.idea.model.IdeaEvaluation;
+import com.innovatepam.idea.model.IdeaStatus;
+import com.innovatepam.idea.repository.IdeaEvaluationRepository;
+import com.innovatepam.idea.repository.IdeaRepository;
+
+@SpringBootTest(classes = AuthApplication.class)
+@AutoConfigureMockMvc
+@Testcontainers
+@Transactional
+class IdeaExportControllerIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("idea.export.fetch-size", () -> "2");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private IdeaRepository ideaRepository;
+
+    @Autowired
+    private IdeaEvaluationRepository evaluationRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private String submitterToken;
+    private String evaluatorToken;
+    private User evaluator;
+
+    @BeforeEach
+    void setUp() {
+        User submitter = createUser("submitter@test.com", createRole("SUBMITTER"));
+        submitterToken = jwtService.generateToken(submitter);
+        evaluator = createUser("evaluator@test.com", createRole("EVALUATOR"));
+        evaluatorToken = jwtService.generateToken(evaluator);
+
+        for (int i = 1; i <= 5; i++) {
+            Idea idea = new Idea();
+            idea.setTitle("Export Idea " + i);
+            idea.setDescription(i == 1 ? "Has a comma, and a \"quote\"" : "Description " + i);
+            idea.setCategory("Process Improvement");
+            idea.setSubmitter(submitter);
+            idea.setStatus(i == 1 ? IdeaStatus.UNDER_REVIEW : IdeaStatus.SUBMITTED);
+            idea.onCreate();
+            idea = ideaRepository.save(idea);
+
+            if (i == 1) {
+                IdeaEvaluation evaluation = new IdeaEvaluation();
+                evaluation.setIdea(idea);
+                evaluation.setEvaluator(evaluator);
+                evaluation.setComment("Looks promising");
+                evaluation.setStatusSnapshot(IdeaStatus.UNDER_REVIEW);
+                evaluationRepository.save(evaluation);
+            }
+        }
+        ideaRepository.flush();
+    }
+
+    @Test
+    void testExportIdeasAsNdjson() throws Exception {
+        String body = mockMvc.perform(get("/api/v1/ideas/export")
+                .header("Authorization", "Bearer " + evaluatorToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, startsWith("application/x-ndjson")))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("ideas.ndjson")))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertTrue(lines.length >= 5);
+        JsonNode last = objectMapper.readTree(lines[lines.length - 1]);
+        assertEquals("Export Idea 5", last.get("title").asText());
+        assertEquals("submitter@test.com", last.get("submitter_email").asText());
+        assertEquals("SUBMITTED", last.get("status").asText());
+    }
+
+    @Test
+    void testExportIdeasAsCsv() throws Exception {
+        mockMvc.perform(get("/api/v1/ideas/export")
+                .header("Authorization", "Bearer " + evaluatorToken)
+                .param("format", "CSV"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, startsWith("text/csv")))
+                .andExpect(content().string(startsWith(
+                    "id,title,description,category,status,submitter_id,submitter_email,evaluation_count,"
+                        + "has_attachment,created_at,updated_at\r\n"
+                )))
+                .andExpect(content().string(containsString("\"Has a comma, and a \"\"quote\"\"\"")));
+    }
+
+    @Test
+    void testExportEvaluations() throws Exception {
+        String body = mockMvc.perform(get("/api/v1/ideas/export/evaluations")
+                .header("Authorization", "Bearer " + evaluatorToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        JsonNode last = objectMapper.readTree(lines[lines.length - 1]);
+        assertEquals("Looks promising", last.get("comment").asText());
+        assertEquals("evaluator@test.com", last.get("evaluator_email").asText());
+        assertEquals("UNDER_REVIEW", last.get("status_snapshot").asText());
+    }
+
+    @Test
+    void testExportRequiresEvaluatorOrAdmin() throws Exception {
+        mockMvc.perform(get("/api/v1/ideas/export")
+                .header("Authorization", "Bearer " + submitterToken))
+                .andExpect(status().isForbidden());
+    }
+
+    private Role createRole(String name) {
+        Role role = new Role();
+        role.setId(UUID.randomUUID());
+        role.setName(name);
+        role.setCreatedAt(LocalDateTime.now());
+        return roleRepository.save(role);
+    }
+
+    private User createUser(String email, Role role) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setEmail(email);
+        user.setPasswordHash("hashed_password");
+        user.setRole(role);
+        user.setCreatedAt(LocalDateTime.now());
+        return userRepository.save(user);
+    }
+}
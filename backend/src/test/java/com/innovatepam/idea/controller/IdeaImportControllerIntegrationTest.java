@@ -0,0 +1,181 @@
+package com.innovatepam.idea.controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.innovatepam.auth.AuthApplication;
+import com.innovatepam.auth.model.Role;
+import com.innovatepam.auth.model.User;
+import com.innovatepam.auth.repository.RoleRepository;
+import com.innovatepam.auth.repository.UserRepository;
+import com.innovatepam.auth.security.JwtService;
+import com.innovatepam.idea.dto.IdeaFilter;
+import com.innovatepam.idea.dto.IdeaResponse;
+import com.innovatepam.idea.model.IdeaStatus;
+import com.innovatepam.idea.repository.IdeaRepository;
+
+@SpringBootTest(classes = AuthApplication.class)
+@AutoConfigureMockMvc
+@Testcontainers
+@Transactional
+class IdeaImportControllerIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("idea.import.chunk-size", () -> "2");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private IdeaRepository ideaRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private String adminToken;
+    private String evaluatorToken;
+    private User submitter;
+
+    @BeforeEach
+    void setUp() {
+        submitter = createUser("submitter@test.com", createRole("SUBMITTER"));
+        adminToken = jwtService.generateToken(createUser("admin@test.com", createRole("ADMIN")));
+        evaluatorToken = jwtService.generateToken(createUser("evaluator@test.com", createRole("EVALUATOR")));
+        userRepository.flush();
+    }
+
+    @Test
+    void testImportNdjsonReportsRowErrors() throws Exception {
+        String body = String.join("\n",
+            "{\"title\":\"Imported 1\",\"description\":\"First\",\"category\":\"Hackathon\",\"submitter_email\":\"submitter@test.com\"}",
+            "{\"description\":\"Missing title\",\"category\":\"Hackathon\",\"submitter_email\":\"submitter@test.com\"}",
+            "{\"title\":\"Imported 3\",\"description\":\"Third\",\"category\":\"Hackathon\",\"status\":\"under_review\",\"submitter_email\":\"submitter@test.com\"}",
+            "{\"title\":\"Unknown\",\"description\":\"Nobody\",\"category\":\"Hackathon\",\"submitter_email\":\"ghost@test.com\"}",
+            "{broken",
+            "{\"title\":\"Bad status\",\"description\":\"Status\",\"category\":\"Hackathon\",\"status\":\"DONE\",\"submitter_email\":\"submitter@test.com\"}",
+            "{\"title\":\"Imported 7\",\"description\":\"Seventh\",\"category\":\"Hackathon\",\"submitter_email\":\"submitter@test.com\"}"
+        );
+
+        mockMvc.perform(post("/api/v1/ideas/import")
+                .header("Authorization", "Bearer " + adminToken)
+                .contentType("application/x-ndjson")
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRows", is(7)))
+                .andExpect(jsonPath("$.importedRows", is(3)))
+                .andExpect(jsonPath("$.rejectedRows", is(4)))
+                .andExpect(jsonPath("$.errorsTruncated", is(false)))
+                .andExpect(jsonPath("$.errors", hasSize(4)))
+                .andExpect(jsonPath("$.errors[0].row", is(2)))
+                .andExpect(jsonPath("$.errors[0].field", is("title")))
+                .andExpect(jsonPath("$.errors[1].row", is(4)))
+                .andExpect(jsonPath("$.errors[1].field", is("submitter_email")))
+                .andExpect(jsonPath("$.errors[2].row", is(5)))
+                .andExpect(jsonPath("$.errors[2].message", is("Malformed JSON")))
+                .andExpect(jsonPath("$.errors[3].row", is(6)))
+                .andExpect(jsonPath("$.errors[3].field", is("status")));
+
+        List<IdeaResponse> imported = ideaRepository.findResponses(
+            IdeaFilter.of(null, Set.of("Hackathon")), PageRequest.of(0, 10, Sort.by("title"))
+        );
+        assertEquals(List.of("Imported 1", "Imported 3", "Imported 7"), imported.stream().map(IdeaResponse::title).toList());
+        assertEquals(IdeaStatus.UNDER_REVIEW, imported.get(1).status());
+        assertEquals("submitter@test.com", imported.get(0).submitterName());
+    }
+
+    @Test
+    void testImportCsvSkipsDuplicateCreatedAt() throws Exception {
+        String body = "title,description,category,submitter_email,created_at\r\n"
+            + "Quoted,\"Multi-line, with \"\"quotes\"\"\r\nsecond line\",Hackathon,submitter@test.com,2024-03-01T09:00:00\r\n"
+            + "Duplicate,Same timestamp,Hackathon,submitter@test.com,2024-03-01T09:00:00\r\n"
+            + "Bad date,Date,Hackathon,submitter@test.com,yesterday\r\n";
+
+        mockMvc.perform(post("/api/v1/ideas/import")
+                .header("Authorization", "Bearer " + adminToken)
+                .param("format", "CSV")
+                .contentType("text/csv")
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRows", is(3)))
+                .andExpect(jsonPath("$.importedRows", is(1)))
+                .andExpect(jsonPath("$.errors[0].row", is(2)))
+                .andExpect(jsonPath("$.errors[0].field", is("created_at")))
+                .andExpect(jsonPath("$.errors[1].row", is(3)))
+                .andExpect(jsonPath("$.errors[1].field", is("created_at")));
+
+        List<IdeaResponse> imported = ideaRepository.findResponses(
+            IdeaFilter.of(null, Set.of("Hackathon")), PageRequest.of(0, 10)
+        );
+        assertEquals(1, imported.size());
+        assertEquals(LocalDateTime.of(2024, 3, 1, 9, 0), imported.get(0).createdAt());
+        assertEquals(submitter.getId(), imported.get(0).submitterId());
+    }
+
+    @Test
+    void testImportRequiresAdmin() throws Exception {
+        mockMvc.perform(post("/api/v1/ideas/import")
+                .header("Authorization", "Bearer " + evaluatorToken)
+                .contentType("application/x-ndjson")
+                .content("{}"))
+                .andExpect(status().isForbidden());
+    }
+
+    private Role createRole(String name) {
+        Role role = new Role();
+        role.setId(UUID.randomUUID());
+        role.setName(name);
+        role.setCreatedAt(LocalDateTime.now());
+        return roleRepository.save(role);
+    }
+
+    private User createUser(String email, Role role) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setEmail(email);
+        user.setPasswordHash("hashed_password");
+        user.setRole(role);
+        user.setCreatedAt(LocalDateTime.now());
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,144 @@
+package com.innovatepam.idea.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.innovatepam.auth.AuthApplication;
+import com.innovatepam.auth.model.Role;
+import com.innovatepam.auth.model.User;
+import com.innovatepam.idea.model.Idea;
+import com.innovatepam.idea.model.IdeaEvaluation;
+import com.innovatepam.idea.model.IdeaStatus;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Compares inserting ideas and evaluations in one transaction with JDBC batching disabled
+ * (batch size 1, which is what IDENTITY ids forced) against the configured batch size.
+ * Throughput for both runs is printed; the assertion is on round trips so the test is not timing-sensitive.
+ */
+@SpringBootTest(
+    classes = AuthApplication.class,
+    properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
+@Testcontainers
+class IdeaInsertBatchingBenchmarkIntegrationTest {
+
+    private static final int IDEAS = 200;
+    private static final int EVALUATIONS_PER_IDEA = 10;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void testBatchedInsertsUseFarFewerRoundTrips() {
+        // Warm up connection, statement cache and JIT before measuring
+        insertAndRollBack(1);
+        insertAndRollBack(50);
+
+        RunResult unbatched = insertAndRollBack(1);
+        RunResult batched = insertAndRollBack(50);
+
+        System.out.printf(
+            "[BENCHMARK] %d rows: unbatched %d statements, %.0f rows/s; batched %d statements, %.0f rows/s (%.1fx)%n",
+            unbatched.rows(), unbatched.statements(), unbatched.rowsPerSecond(),
+            batched.statements(), batched.rowsPerSecond(), batched.rowsPerSecond() / unbatched.rowsPerSecond()
+        );
+        assertTrue(batched.statements() * 10 < unbatched.statements(),
+            "Batched run should need at least 10x fewer statements than the unbatched run");
+    }
+
+    private RunResult insertAndRollBack(int batchSize) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        return transaction.execute(status -> {
+            status.setRollbackOnly();
+            Session session = entityManager.unwrap(Session.class);
+            session.setJdbcBatchSize(batchSize);
+
+            // One submitter per idea: ideas has a unique (submitter_id, created_at) index
+            Role role = new Role();
+            role.setId(UUID.randomUUID());
+            role.setName("BENCHMARK_" + batchSize);
+            role.setCreatedAt(LocalDateTime.now());
+            entityManager.persist(role);
+            List<User> submitters = new ArrayList<>();
+            for (int i = 0; i < IDEAS; i++) {
+                User user = new User();
+                user.setEmail("bench" + i + "@test.com");
+                user.setPasswordHash("hashed_password");
+                user.setRole(role);
+                user.setCreatedAt(LocalDateTime.now());
+                entityManager.persist(user);
+                submitters.add(user);
+            }
+            entityManager.flush();
+
+            Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+            statistics.clear();
+            long start = System.nanoTime();
+
+            for (User submitter : submitters) {
+                Idea idea = new Idea();
+                idea.setTitle("Benchmark idea");
+                idea.setDescription("Benchmark description");
+                idea.setCategory("Benchmark");
+                idea.setSubmitter(submitter);
+                idea.setStatus(IdeaStatus.UNDER_REVIEW);
+                idea.setEvaluationCount(EVALUATIONS_PER_IDEA);
+                entityManager.persist(idea);
+                for (int j = 0; j < EVALUATIONS_PER_IDEA; j++) {
+                    IdeaEvaluation evaluation = new IdeaEvaluation();
+                    evaluation.setIdea(idea);
+                    evaluation.setEvaluator(submitter);
+                    evaluation.setComment("Evaluation " + j);
+                    entityManager.persist(evaluation);
+                }
+            }
+            entityManager.flush();
+
+            long elapsed = System.nanoTime() - start;
+            entityManager.clear();
+            int rows = IDEAS * (1 + EVALUATIONS_PER_IDEA);
+            return new RunResult(rows, statistics.getPrepareStatementCount(), rows / (elapsed / 1_000_000_000.0));
+        });
+    }
+
+    private record RunResult(int rows, long statements, double rowsPerSecond) {}
+}
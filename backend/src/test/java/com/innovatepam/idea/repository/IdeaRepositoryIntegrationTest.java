@@ -1,6 +1,7 @@
 package com.innovatepam.idea.repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -10,12 +11,15 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -29,13 +33,23 @@ import com.innovatepam.auth.model.Role;
 import com.innovatepam.auth.model.User;
 import com.innovatepam.auth.repository.RoleRepository;
 import com.innovatepam.auth.repository.UserRepository;
+import com.innovatepam.idea.dto.IdeaDetailResponse;
+import com.innovatepam.idea.dto.IdeaFilter;
+import com.innovatepam.idea.dto.IdeaResponse;
+import com.innovatepam.idea.dto.LatestEvaluations;
+import com.innovatepam.idea.model.FileType;
 import com.innovatepam.idea.model.Idea;
+import com.innovatepam.idea.model.IdeaAttachment;
+import com.innovatepam.idea.model.IdeaEvaluation;
 import com.innovatepam.idea.model.IdeaStatus;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 
-@SpringBootTest(classes = AuthApplication.class)
+@SpringBootTest(
+    classes = AuthApplication.class,
+    properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
 @Testcontainers
 @Transactional
 class IdeaRepositoryIntegrationTest {
@@ -60,6 +74,9 @@ class IdeaRepositoryIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private IdeaEvaluationRepository ideaEvaluationRepository;
+
     @Autowired
     private RoleRepository roleRepository;
 
@@ -166,6 +183,253 @@ class IdeaRepositoryIntegrationTest {
         assertEquals(5, secondPage.getContent().size());
     }
 
+    @Test
+    void testIncrementEvaluationCountBumpsVersionAndUpdatedAt() {
+        Idea idea = ideaRepository.saveAndFlush(createIdea("Commented Idea", IdeaStatus.SUBMITTED));
+        entityManager.clear();
+        Idea stored = ideaRepository.findById(idea.getId()).orElseThrow();
+        int version = stored.getVersion() == null ? 0 : stored.getVersion();
+        LocalDateTime commentedAt = stored.getUpdatedAt().plusMinutes(1).withNano(0);
+        entityManager.clear();
+
+        assertEquals(1, ideaRepository.incrementEvaluationCount(idea.getId(), commentedAt));
+        assertEquals(1, ideaRepository.incrementEvaluationCount(idea.getId(), commentedAt));
+        assertEquals(0, ideaRepository.incrementEvaluationCount(-1L, commentedAt));
+
+        Idea reloaded = ideaRepository.findById(idea.getId()).orElseThrow();
+        assertEquals(2, reloaded.getEvaluationCount());
+        assertEquals(version + 2, reloaded.getVersion());
+        assertEquals(commentedAt, reloaded.getUpdatedAt());
+        assertEquals(Optional.of(version + 2), ideaRepository.findVersionById(idea.getId()));
+    }
+
+    @Test
+    void testFindListingVersionAdvancesWithEveryIdeaWrite() {
+        long initial = ideaRepository.findListingVersion();
+
+        Idea idea = ideaRepository.saveAndFlush(createIdea("Versioned Idea", IdeaStatus.SUBMITTED));
+        long afterInsert = ideaRepository.findListingVersion();
+        entityManager.createNativeQuery("UPDATE ideas SET title = 'Renamed by SQL' WHERE id = " + idea.getId())
+            .executeUpdate();
+        long afterSql = ideaRepository.findListingVersion();
+        entityManager.createNativeQuery("UPDATE users SET password_hash = 'rehashed'").executeUpdate();
+        long afterPasswordChange = ideaRepository.findListingVersion();
+        entityManager.createNativeQuery("UPDATE users SET email = 'renamed@test.com' WHERE email = 'submitter@test.com'")
+            .executeUpdate();
+
+        assertTrue(afterInsert > initial);
+        assertTrue(afterSql > afterInsert);
+        assertEquals(afterSql, afterPasswordChange);
+        assertTrue(ideaRepository.findListingVersion() > afterPasswordChange);
+    }
+
+    @Test
+    void testFindResponsesByStatusProjectsCountsAndSubmitter() {
+        Idea reviewed = ideaRepository.save(createIdea("Reviewed Idea", IdeaStatus.UNDER_REVIEW));
+        ideaRepository.save(createIdea("Other Idea", IdeaStatus.SUBMITTED));
+        for (int i = 0; i < 2; i++) {
+            IdeaEvaluation evaluation = new IdeaEvaluation();
+            evaluation.setIdea(reviewed);
+            evaluation.setEvaluator(submitter);
+            evaluation.setComment("Comment " + i);
+            entityManager.persist(evaluation);
+        }
+        // Counters are maintained by the services; the projection reads the denormalized columns
+        reviewed.setEvaluationCount(2);
+        entityManager.flush();
+        entityManager.clear();
+
+        IdeaFilter underReview = IdeaFilter.of(List.of(IdeaStatus.UNDER_REVIEW), null);
+        List<IdeaResponse> page = ideaRepository.findResponses(underReview, PageRequest.of(0, 10));
+
+        assertEquals(1, page.size());
+        assertEquals(1, ideaRepository.countMatching(underReview));
+        IdeaResponse response = page.get(0);
+        assertEquals("Reviewed Idea", response.title());
+        assertEquals(2, response.evaluationCount());
+        assertFalse(response.hasAttachment());
+        assertEquals(submitter.getEmail(), response.submitterName());
+        assertEquals(submitter.getId(), response.submitterId());
+    }
+
+    @Test
+    void testFindDetailByIdLoadsIdeaGraphInSingleStatement() {
+        User secondEvaluator = new User();
+        secondEvaluator.setEmail("second@test.com");
+        secondEvaluator.setPasswordHash("hashed_password");
+        secondEvaluator.setRole(submitterRole);
+        secondEvaluator = userRepository.save(secondEvaluator);
+
+        Idea idea = ideaRepository.save(createIdea("Detailed Idea", IdeaStatus.UNDER_REVIEW));
+
+        IdeaAttachment attachment = new IdeaAttachment();
+        attachment.setIdea(idea);
+        attachment.setOriginalFilename("proposal.pdf");
+        attachment.setStoredFilename("stored.pdf");
+        attachment.setFileType(FileType.PDF);
+        attachment.setFileSize(1024L);
+        attachment.setStorageLocation("uploads/ideas/stored.pdf");
+        entityManager.persist(attachment);
+
+        for (int i = 0; i < 6; i++) {
+            IdeaEvaluation evaluation = new IdeaEvaluation();
+            evaluation.setIdea(idea);
+            evaluation.setEvaluator(i % 2 == 0 ? submitter : secondEvaluator);
+            evaluation.setComment("Comment " + i);
+            entityManager.persist(evaluation);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+        statistics.clear();
+
+        Idea loaded = ideaRepository.findDetailById(idea.getId()).orElseThrow();
+        IdeaDetailResponse response = IdeaDetailResponse.from(loaded, LatestEvaluations.NONE);
+
+        assertNotNull(response.attachment());
+        assertEquals(submitter.getEmail(), response.submitterName());
+        assertEquals(1, statistics.getPrepareStatementCount(),
+            "Idea detail should be loaded with a single SQL statement");
+    }
+
+    @Test
+    void testFindLatestEvaluationsReadsBoundedRowsPerIdea() {
+        User secondEvaluator = new User();
+        secondEvaluator.setEmail("second@test.com");
+        secondEvaluator.setPasswordHash("hashed_password");
+        secondEvaluator.setRole(submitterRole);
+        secondEvaluator = userRepository.save(secondEvaluator);
+
+        Idea busy = ideaRepository.save(createIdea("Busy Idea", IdeaStatus.UNDER_REVIEW));
+        Idea quiet = ideaRepository.save(createIdea("Quiet Idea", IdeaStatus.UNDER_REVIEW));
+        Idea silent = ideaRepository.save(createIdea("Silent Idea", IdeaStatus.SUBMITTED));
+        for (int i = 0; i < 6; i++) {
+            IdeaEvaluation evaluation = new IdeaEvaluation();
+            evaluation.setIdea(busy);
+            evaluation.setEvaluator(i % 2 == 0 ? submitter : secondEvaluator);
+            evaluation.setComment("Busy " + i);
+            entityManager.persist(evaluation);
+        }
+        IdeaEvaluation only = new IdeaEvaluation();
+        only.setIdea(quiet);
+        only.setEvaluator(secondEvaluator);
+        only.setComment("Quiet 0");
+        entityManager.persist(only);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+        statistics.clear();
+
+        List<Long> ids = ideaEvaluationRepository.findLatestIdsByIdeaIdIn(
+            List.of(busy.getId(), quiet.getId(), silent.getId()), 3
+        );
+        List<IdeaEvaluation> latest = ideaEvaluationRepository.findWithEvaluatorByIdIn(ids);
+
+        // Newest first across ideas; the quiet idea's only evaluation was written last
+        assertEquals(
+            List.of("Quiet 0", "Busy 5", "Busy 4", "Busy 3"),
+            latest.stream().map(IdeaEvaluation::getComment).toList()
+        );
+        assertEquals("second@test.com", latest.get(1).getEvaluator().getEmail());
+        assertEquals(2, statistics.getPrepareStatementCount(),
+            "Latest evaluations and their evaluators should be loaded with two SQL statements");
+    }
+
+    @Test
+    void testFindAllResponsesWithPagination() {
+        for (int i = 1; i <= 15; i++) {
+            ideaRepository.save(createIdea("Idea " + i, IdeaStatus.SUBMITTED));
+        }
+
+        List<IdeaResponse> firstPage = ideaRepository.findResponses(IdeaFilter.none(), PageRequest.of(0, 10));
+        assertEquals(10, firstPage.size());
+
+        List<IdeaResponse> secondPage = ideaRepository.findResponses(IdeaFilter.none(), PageRequest.of(1, 10));
+        assertEquals(5, secondPage.size());
+        assertEquals(15, ideaRepository.countMatching(IdeaFilter.none()));
+    }
+
+    @Test
+    void testFindResponsesWithStatusAndCategorySets() {
+        ideaRepository.save(createIdea("Submitted", IdeaStatus.SUBMITTED));
+        ideaRepository.save(createIdea("Under Review", IdeaStatus.UNDER_REVIEW));
+        ideaRepository.save(createIdea("Accepted", IdeaStatus.ACCEPTED));
+        Idea otherCategory = createIdea("Other Category", IdeaStatus.SUBMITTED);
+        otherCategory.setCategory("Cost Reduction");
+        ideaRepository.save(otherCategory);
+
+        IdeaFilter filter = IdeaFilter.of(
+            List.of(IdeaStatus.SUBMITTED, IdeaStatus.UNDER_REVIEW),
+            List.of("Process Improvement", "Innovation")
+        );
+        List<IdeaResponse> page = ideaRepository.findResponses(
+            filter, PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "title"))
+        );
+
+        assertEquals(List.of("Submitted", "Under Review"), page.stream().map(IdeaResponse::title).toList());
+        assertEquals(2, ideaRepository.countMatching(filter));
+        assertEquals(0, ideaRepository.countMatching(IdeaFilter.of(null, List.of("Unknown"))));
+    }
+
+    @Test
+    void testFindResponsesWithSubmitterAndDateRanges() {
+        Idea old = createIdea("Old Idea", IdeaStatus.SUBMITTED);
+        ideaRepository.save(old);
+        entityManager.flush();
+        entityManager.createQuery("update Idea i set i.createdAt = :createdAt, i.updatedAt = :createdAt where i.id = :id")
+            .setParameter("createdAt", LocalDateTime.now().minusDays(30))
+            .setParameter("id", old.getId())
+            .executeUpdate();
+        Idea recent = ideaRepository.save(createIdea("Recent Idea", IdeaStatus.SUBMITTED));
+
+        User otherSubmitter = new User();
+        otherSubmitter.setEmail("other@test.com");
+        otherSubmitter.setPasswordHash("hashed_password");
+        otherSubmitter.setRole(submitterRole);
+        otherSubmitter = userRepository.save(otherSubmitter);
+        Idea foreign = createIdea("Foreign Idea", IdeaStatus.SUBMITTED);
+        foreign.setSubmitter(otherSubmitter);
+        ideaRepository.save(foreign);
+        entityManager.flush();
+        entityManager.clear();
+
+        LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
+        IdeaFilter recentFromSubmitter = new IdeaFilter(null, null, submitter.getId(), weekAgo, null, null, null);
+        IdeaFilter updatedBeforeWeekAgo = new IdeaFilter(null, null, null, null, null, null, weekAgo);
+
+        List<IdeaResponse> recentPage = ideaRepository.findResponses(recentFromSubmitter, PageRequest.of(0, 10));
+        List<IdeaResponse> stalePage = ideaRepository.findResponses(updatedBeforeWeekAgo, PageRequest.of(0, 10));
+
+        assertEquals(1, recentPage.size());
+        assertEquals(recent.getId(), recentPage.get(0).id());
+        assertEquals(1, stalePage.size());
+        assertEquals("Old Idea", stalePage.get(0).title());
+    }
+
+    @Test
+    void testFindResponsesSortsByUpdatedAtWithIdTieBreak() {
+        Idea first = ideaRepository.save(createIdea("First", IdeaStatus.SUBMITTED));
+        Idea second = ideaRepository.save(createIdea("Second", IdeaStatus.SUBMITTED));
+        entityManager.flush();
+        LocalDateTime sameInstant = LocalDateTime.now().withNano(0);
+        entityManager.createQuery("update Idea i set i.updatedAt = :updatedAt")
+            .setParameter("updatedAt", sameInstant)
+            .executeUpdate();
+        entityManager.clear();
+
+        List<IdeaResponse> descending = ideaRepository.findResponses(
+            IdeaFilter.none(), PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "updatedAt"))
+        );
+
+        assertEquals(List.of(second.getId(), first.getId()), descending.stream().map(IdeaResponse::id).toList());
+    }
+
     @Test
     void testUpdateIdeaStatus() {
         Idea idea = createIdea("Test Idea", IdeaStatus.SUBMITTED);
@@ -218,6 +482,59 @@ class IdeaRepositoryIntegrationTest {
         );
     }
 
+    @Test
+    void testSearchRanksTitleMatchesAboveDescriptionMatches() {
+        Idea inDescription = createIdea("Faster onboarding", IdeaStatus.SUBMITTED);
+        inDescription.setDescription("Automate the laptop provisioning checklist");
+        ideaRepository.save(inDescription);
+        Idea inTitle = ideaRepository.save(createIdea("Automation of expense reports", IdeaStatus.SUBMITTED));
+        ideaRepository.save(createIdea("Office plants", IdeaStatus.SUBMITTED));
+        entityManager.flush();
+
+        Page<IdeaResponse> page = ideaRepository.search("automating", null, null, PageRequest.of(0, 10));
+
+        assertEquals(2, page.getTotalElements());
+        assertEquals(inTitle.getId(), page.getContent().get(0).id());
+        assertEquals(inDescription.getId(), page.getContent().get(1).id());
+        assertEquals("submitter@test.com", page.getContent().get(0).submitterName());
+    }
+
+    @Test
+    void testSearchCombinesWithStatusAndCategoryFilters() {
+        ideaRepository.save(createIdea("Recycling bins", IdeaStatus.SUBMITTED));
+        Idea accepted = ideaRepository.save(createIdea("Recycling program", IdeaStatus.ACCEPTED));
+        Idea otherCategory = createIdea("Recycling toner", IdeaStatus.ACCEPTED);
+        otherCategory.setCategory("Sustainability");
+        ideaRepository.save(otherCategory);
+        entityManager.flush();
+
+        Page<IdeaResponse> byStatus = ideaRepository.search("recycling", IdeaStatus.ACCEPTED, null, PageRequest.of(0, 10));
+        Page<IdeaResponse> byBoth = ideaRepository.search(
+            "recycling", IdeaStatus.ACCEPTED, "Process Improvement", PageRequest.of(0, 10)
+        );
+
+        assertEquals(2, byStatus.getTotalElements());
+        assertEquals(1, byBoth.getTotalElements());
+        assertEquals(accepted.getId(), byBoth.getContent().get(0).id());
+    }
+
+    @Test
+    void testSearchPaginatesAndReportsTotalPastLastPage() {
+        for (int i = 0; i < 5; i++) {
+            ideaRepository.save(createIdea("Solar panel " + i, IdeaStatus.SUBMITTED));
+        }
+        entityManager.flush();
+
+        Page<IdeaResponse> secondPage = ideaRepository.search("solar", null, null, PageRequest.of(1, 2));
+        Page<IdeaResponse> pastEnd = ideaRepository.search("solar", null, null, PageRequest.of(5, 2));
+
+        assertEquals(2, secondPage.getContent().size());
+        assertEquals(5, secondPage.getTotalElements());
+        assertTrue(pastEnd.getContent().isEmpty());
+        assertEquals(5, pastEnd.getTotalElements());
+        assertEquals(0, ideaRepository.search("nonexistentterm", null, null, PageRequest.of(0, 10)).getTotalElements());
+    }
+
     private Idea createIdea(String title, IdeaStatus status) {
         Idea idea = new Idea();
         idea.setTitle(title);
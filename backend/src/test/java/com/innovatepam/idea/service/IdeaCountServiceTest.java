@@ -0,0 +1,159 @@
+package com.innovatepam.idea.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innovatepam.idea.dto.IdeaCount;
+import com.innovatepam.idea.dto.IdeaFilter;
+import com.innovatepam.idea.model.CountStrategy;
+import com.innovatepam.idea.model.IdeaStatus;
+import com.innovatepam.idea.repository.IdeaRepository;
+
+@ExtendWith(MockitoExtension.class)
+class IdeaCountServiceTest {
+
+    @Mock
+    private IdeaRepository ideaRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private IdeaCountService countService;
+
+    @BeforeEach
+    void setUp() {
+        countService = new IdeaCountService(ideaRepository, jdbcTemplate, new ObjectMapper(), Duration.ofMinutes(5));
+    }
+
+    @Test
+    void testExactCountQueriesEveryTime() {
+        IdeaFilter submitted = IdeaFilter.of(List.of(IdeaStatus.SUBMITTED), null);
+        when(ideaRepository.countMatching(submitted)).thenReturn(7L);
+
+        IdeaCount first = countService.count(submitted, CountStrategy.EXACT);
+        IdeaCount second = countService.count(submitted, CountStrategy.EXACT);
+
+        assertEquals(7, first.total());
+        assertTrue(first.exact());
+        assertEquals(7, second.total());
+        verify(ideaRepository, times(2)).countMatching(submitted);
+    }
+
+    @Test
+    void testCachedCountIsReusedPerFilter() {
+        IdeaFilter submittedCost = IdeaFilter.of(List.of(IdeaStatus.SUBMITTED), List.of("Cost"));
+        IdeaFilter cost = IdeaFilter.of(null, List.of("Cost"));
+        when(ideaRepository.countMatching(submittedCost)).thenReturn(3L);
+        when(ideaRepository.countMatching(cost)).thenReturn(5L);
+
+        IdeaCount miss = countService.count(submittedCost, CountStrategy.CACHED);
+        IdeaCount hit = countService.count(IdeaFilter.of(List.of(IdeaStatus.SUBMITTED), List.of("Cost")), CountStrategy.CACHED);
+        IdeaCount otherFilter = countService.count(cost, CountStrategy.CACHED);
+
+        assertTrue(miss.exact());
+        assertFalse(hit.exact());
+        assertEquals(3, hit.total());
+        assertEquals(CountStrategy.CACHED, hit.strategy());
+        assertEquals(5, otherFilter.total());
+        verify(ideaRepository, times(1)).countMatching(submittedCost);
+    }
+
+    @Test
+    void testInvalidateEvictsOnlyAffectedFilters() {
+        IdeaFilter all = IdeaFilter.none();
+        IdeaFilter accepted = IdeaFilter.of(List.of(IdeaStatus.ACCEPTED), null);
+        IdeaFilter cost = IdeaFilter.of(null, List.of("Cost", "Travel"));
+        IdeaFilter travel = IdeaFilter.of(null, List.of("Travel"));
+        when(ideaRepository.countMatching(all)).thenReturn(10L, 11L);
+        when(ideaRepository.countMatching(accepted)).thenReturn(2L);
+        when(ideaRepository.countMatching(cost)).thenReturn(4L, 5L);
+        when(ideaRepository.countMatching(travel)).thenReturn(6L);
+
+        countService.count(all, CountStrategy.CACHED);
+        countService.count(accepted, CountStrategy.CACHED);
+        countService.count(cost, CountStrategy.CACHED);
+        countService.count(travel, CountStrategy.CACHED);
+
+        countService.invalidate("Cost", IdeaStatus.SUBMITTED);
+
+        assertEquals(11, countService.count(all, CountStrategy.CACHED).total());
+        assertEquals(2, countService.count(accepted, CountStrategy.CACHED).total());
+        assertEquals(5, countService.count(cost, CountStrategy.CACHED).total());
+        assertEquals(6, countService.count(travel, CountStrategy.CACHED).total());
+        verify(ideaRepository, times(1)).countMatching(accepted);
+        verify(ideaRepository, times(1)).countMatching(travel);
+    }
+
+    @Test
+    void testExpiredCacheEntryIsReloaded() {
+        countService = new IdeaCountService(ideaRepository, jdbcTemplate, new ObjectMapper(), Duration.ZERO);
+        when(ideaRepository.countMatching(IdeaFilter.none())).thenReturn(10L, 12L);
+
+        countService.count(IdeaFilter.none(), CountStrategy.CACHED);
+        IdeaCount reloaded = countService.count(IdeaFilter.none(), CountStrategy.CACHED);
+
+        assertEquals(12, reloaded.total());
+        assertTrue(reloaded.exact());
+    }
+
+    @Test
+    void testEstimatedCountWithoutFiltersUsesTableStatistics() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(250_000L);
+
+        IdeaCount count = countService.count(IdeaFilter.none(), CountStrategy.ESTIMATED);
+
+        assertEquals(250_000, count.total());
+        assertFalse(count.exact());
+        verify(ideaRepository, never()).countMatching(any());
+    }
+
+    @Test
+    void testEstimatedCountWithFilterUsesPlannerEstimate() {
+        String plan = "[{\"Plan\": {\"Node Type\": \"Index Scan\", \"Plan Rows\": 4200}}]";
+        LocalDateTime since = LocalDateTime.of(2024, 1, 1, 0, 0);
+        IdeaFilter filter = new IdeaFilter(
+            Set.of(IdeaStatus.UNDER_REVIEW), Set.of("Cost"), null, since, null, null, null
+        );
+        when(jdbcTemplate.queryForObject(
+            eq("EXPLAIN (FORMAT JSON) SELECT 1 FROM ideas WHERE status IN (?) AND category IN (?) AND created_at >= ?"),
+            eq(String.class), eq("UNDER_REVIEW"), eq("Cost"), eq(since)
+        )).thenReturn(plan);
+
+        IdeaCount count = countService.count(filter, CountStrategy.ESTIMATED);
+
+        assertEquals(4200, count.total());
+        assertEquals(CountStrategy.ESTIMATED, count.strategy());
+        assertFalse(count.exact());
+    }
+
+    @Test
+    void testEstimatedCountFallsBackToExactWithoutStatistics() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(-1L);
+        when(ideaRepository.countMatching(IdeaFilter.none())).thenReturn(42L);
+
+        IdeaCount count = countService.count(IdeaFilter.none(), CountStrategy.ESTIMATED);
+
+        assertEquals(42, count.total());
+        assertTrue(count.exact());
+    }
+}
@@ -3,33 +3,41 @@ package com.innovatepam.idea.service;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 import com.innovatepam.auth.model.Role;
 import com.innovatepam.auth.model.User;
+import com.innovatepam.auth.repository.UserRepository;
 import com.innovatepam.idea.exception.IdeaNotFoundException;
 import com.innovatepam.idea.model.Idea;
 import com.innovatepam.idea.model.IdeaEvaluation;
 import com.innovatepam.idea.model.IdeaStatus;
 import com.innovatepam.idea.repository.IdeaEvaluationRepository;
 import com.innovatepam.idea.repository.IdeaRepository;
+import com.innovatepam.idea.util.IdeaCursor;
 
 @ExtendWith(MockitoExtension.class)
 class IdeaEvaluationServiceTest {
@@ -40,6 +48,9 @@ class IdeaEvaluationServiceTest {
     @Mock
     private IdeaRepository ideaRepository;
 
+    @Mock
+    private UserRepository userRepository;
+
     @InjectMocks
     private IdeaEvaluationService evaluationService;
 
@@ -87,14 +98,16 @@ class IdeaEvaluationServiceTest {
 
     @Test
     void testAddCommentSuccess() {
-        when(ideaRepository.findById(1L)).thenReturn(Optional.of(idea));
+        when(ideaRepository.incrementEvaluationCount(eq(1L), any(LocalDateTime.class))).thenReturn(1);
+        when(ideaRepository.getReferenceById(1L)).thenReturn(idea);
         when(evaluationRepository.save(any(IdeaEvaluation.class))).thenAnswer(invocation -> {
             IdeaEvaluation eval = invocation.getArgument(0);
             eval.setId(1L);
             return eval;
         });
+        when(userRepository.getReferenceById(evaluator.getId())).thenReturn(evaluator);
 
-    IdeaEvaluation response = evaluationService.addComment(1L, evaluator, "Great idea, moving to review");
+    IdeaEvaluation response = evaluationService.addComment(1L, evaluator.getId(), "Great idea, moving to review");
 
     assertNotNull(response);
     assertEquals("Great idea, moving to review", response.getComment());
@@ -105,14 +118,17 @@ class IdeaEvaluationServiceTest {
         IdeaEvaluation saved = captor.getValue();
         assertEquals("Great idea, moving to review", saved.getComment());
         assertNull(saved.getStatusSnapshot());
+        // Counted in the database, without dirtying the loaded idea
+        assertEquals(0, idea.getEvaluationCount());
+        verify(ideaRepository, never()).findById(any());
     }
 
     @Test
     void testAddCommentIdeaNotFound() {
-        when(ideaRepository.findById(99L)).thenReturn(Optional.empty());
+        when(ideaRepository.incrementEvaluationCount(eq(99L), any(LocalDateTime.class))).thenReturn(0);
 
         assertThrows(IdeaNotFoundException.class, () -> {
-            evaluationService.addComment(99L, evaluator, "Comment");
+            evaluationService.addComment(99L, evaluator.getId(), "Comment");
         });
 
         verify(evaluationRepository, never()).save(any());
@@ -136,10 +152,12 @@ class IdeaEvaluationServiceTest {
         eval2.setStatusSnapshot(null);
         eval2.onCreate();
 
+        KeysetScrollPosition position = ScrollPosition.keyset();
         when(ideaRepository.existsById(1L)).thenReturn(true);
-        when(evaluationRepository.findByIdeaIdOrderByCreatedAtAsc(1L)).thenReturn(Arrays.asList(eval1, eval2));
+        when(evaluationRepository.findByIdeaId(1L, position, Limit.of(20), IdeaCursor.SORT))
+            .thenReturn(Window.from(Arrays.asList(eval1, eval2), ScrollPosition::offset));
 
-        List<IdeaEvaluation> history = evaluationService.getEvaluationHistory(1L);
+        List<IdeaEvaluation> history = evaluationService.getEvaluationHistory(1L, position, 20).getContent();
 
         assertEquals(2, history.size());
         assertEquals("First comment", history.get(0).getComment());
@@ -148,12 +166,41 @@ class IdeaEvaluationServiceTest {
         assertNull(history.get(1).getStatusSnapshot());
     }
 
+    @Test
+    void testGetLatestEvaluationsGroupsByIdea() {
+        Idea other = new Idea();
+        other.setId(2L);
+
+        IdeaEvaluation first = new IdeaEvaluation();
+        first.setIdea(idea);
+        IdeaEvaluation second = new IdeaEvaluation();
+        second.setIdea(other);
+        IdeaEvaluation third = new IdeaEvaluation();
+        third.setIdea(idea);
+
+        when(evaluationRepository.findLatestIdsByIdeaIdIn(List.of(1L, 2L), 3)).thenReturn(List.of(10L, 11L, 12L));
+        when(evaluationRepository.findWithEvaluatorByIdIn(List.of(10L, 11L, 12L))).thenReturn(List.of(first, second, third));
+
+        Map<Long, List<IdeaEvaluation>> latest = evaluationService.getLatestEvaluations(List.of(1L, 2L), 3);
+
+        assertEquals(List.of(first, third), latest.get(1L));
+        assertEquals(List.of(second), latest.get(2L));
+    }
+
+    @Test
+    void testGetLatestEvaluationsSkipsSecondQueryWhenEmpty() {
+        when(evaluationRepository.findLatestIdsByIdeaIdIn(List.of(1L), 3)).thenReturn(List.of());
+
+        assertTrue(evaluationService.getLatestEvaluations(List.of(1L), 3).isEmpty());
+        verify(evaluationRepository, never()).findWithEvaluatorByIdIn(any());
+    }
+
     @Test
     void testGetEvaluationHistoryIdeaNotFound() {
         when(ideaRepository.existsById(99L)).thenReturn(false);
 
         assertThrows(IdeaNotFoundException.class, () -> {
-            evaluationService.getEvaluationHistory(99L);
+            evaluationService.getEvaluationHistory(99L, ScrollPosition.keyset(), 20);
         });
     }
 
@@ -176,4 +223,33 @@ class IdeaEvaluationServiceTest {
         assertEquals(evaluator, saved.getEvaluator());
         assertEquals(idea, saved.getIdea());
     }
+
+    @Test
+    void testAddStatusEvaluationsSavesAllInOneCall() {
+        Idea other = new Idea();
+        other.setId(2L);
+        when(evaluationRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<IdeaEvaluation> saved = evaluationService.addStatusEvaluations(
+            List.of(idea, other), evaluator, "Triage", IdeaStatus.UNDER_REVIEW
+        );
+
+        assertEquals(2, saved.size());
+        assertEquals(idea, saved.get(0).getIdea());
+        assertEquals(other, saved.get(1).getIdea());
+        assertEquals(IdeaStatus.UNDER_REVIEW, saved.get(1).getStatusSnapshot());
+        assertEquals(1, other.getEvaluationCount());
+        verify(evaluationRepository, never()).save(any());
+    }
+
+    @Test
+    void testEvaluationCountIncrementsForEveryEvaluation() {
+        idea.setEvaluationCount(2);
+        when(evaluationRepository.save(any(IdeaEvaluation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        evaluationService.addStatusEvaluation(idea, evaluator, "Moving to review", IdeaStatus.UNDER_REVIEW);
+        evaluationService.addStatusEvaluation(idea, evaluator, "Accepted", IdeaStatus.ACCEPTED);
+
+        assertEquals(4, idea.getEvaluationCount());
+    }
 }
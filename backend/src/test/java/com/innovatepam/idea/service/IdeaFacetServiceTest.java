@@ -0,0 +1,129 @@
+package com.innovatepam.idea.service;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.innovatepam.idea.dto.IdeaFacetCount;
+import com.innovatepam.idea.dto.IdeaFacetsResponse;
+import com.innovatepam.idea.model.IdeaStatus;
+import com.innovatepam.idea.repository.IdeaRepository;
+
+@ExtendWith(MockitoExtension.class)
+class IdeaFacetServiceTest {
+
+    @Mock
+    private IdeaRepository ideaRepository;
+
+    private IdeaFacetService facetService;
+
+    @BeforeEach
+    void setUp() {
+        facetService = new IdeaFacetService(ideaRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testFacetsAreEmptyBeforeReconciliation() {
+        IdeaFacetsResponse facets = facetService.getFacets();
+
+        assertTrue(facets.matrix().isEmpty());
+        assertEquals(0, facets.total());
+        assertEquals(0L, facets.statusTotals().get(IdeaStatus.SUBMITTED));
+        assertNull(facets.reconciledAt());
+    }
+
+    @Test
+    void testReconcileBuildsMatrixAndTotals() {
+        when(ideaRepository.findFacetCounts()).thenReturn(Arrays.asList(
+            new IdeaFacetCount("Cost", IdeaStatus.SUBMITTED, 3),
+            new IdeaFacetCount("Cost", IdeaStatus.ACCEPTED, 2),
+            new IdeaFacetCount("Travel", IdeaStatus.SUBMITTED, 4)
+        ));
+
+        facetService.reconcile();
+        IdeaFacetsResponse facets = facetService.getFacets();
+
+        assertEquals(3L, facets.matrix().get("Cost").get(IdeaStatus.SUBMITTED));
+        assertEquals(0L, facets.matrix().get("Travel").get(IdeaStatus.REJECTED));
+        assertEquals(7L, facets.statusTotals().get(IdeaStatus.SUBMITTED));
+        assertEquals(5L, facets.categoryTotals().get("Cost"));
+        assertEquals(9, facets.total());
+        assertNotNull(facets.reconciledAt());
+    }
+
+    @Test
+    void testReadsServeSnapshotWithoutQuerying() {
+        when(ideaRepository.findFacetCounts()).thenReturn(List.of());
+        facetService.reconcile();
+
+        IdeaFacetsResponse first = facetService.getFacets();
+        IdeaFacetsResponse second = facetService.getFacets();
+
+        assertSame(first, second);
+        verify(ideaRepository, times(1)).findFacetCounts();
+    }
+
+    @Test
+    void testCreatedAndTransitionedIdeasUpdateCounts() {
+        facetService.recordCreated("Cost", IdeaStatus.SUBMITTED);
+        facetService.recordCreated("Cost", IdeaStatus.SUBMITTED);
+        facetService.recordTransition("Cost", IdeaStatus.SUBMITTED, IdeaStatus.UNDER_REVIEW);
+
+        IdeaFacetsResponse facets = facetService.getFacets();
+
+        assertEquals(1L, facets.matrix().get("Cost").get(IdeaStatus.SUBMITTED));
+        assertEquals(1L, facets.matrix().get("Cost").get(IdeaStatus.UNDER_REVIEW));
+        assertEquals(2, facets.total());
+    }
+
+    @Test
+    void testUpdatesWaitForTransactionCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        facetService.recordCreated("Cost", IdeaStatus.SUBMITTED);
+        assertEquals(0, facetService.getFacets().total());
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        assertEquals(1, facetService.getFacets().total());
+    }
+
+    @Test
+    void testReconcileReplacesDriftedCounts() {
+        facetService.recordCreated("Cost", IdeaStatus.SUBMITTED);
+        facetService.recordCreated("Ghost", IdeaStatus.SUBMITTED);
+        when(ideaRepository.findFacetCounts()).thenReturn(List.of(
+            new IdeaFacetCount("Cost", IdeaStatus.SUBMITTED, 5)
+        ));
+
+        facetService.reconcile();
+        IdeaFacetsResponse facets = facetService.getFacets();
+
+        assertEquals(5, facets.total());
+        assertEquals(1, facets.matrix().size());
+    }
+}
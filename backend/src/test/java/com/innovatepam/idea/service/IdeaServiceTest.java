@@ -1,14 +1,21 @@
 package com.innovatepam.idea.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,19 +30,37 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.innovatepam.auth.model.Role;
 import com.innovatepam.auth.model.User;
+import com.innovatepam.auth.repository.UserRepository;
+import com.innovatepam.idea.dto.BulkStatusUpdateResponse;
+import com.innovatepam.idea.dto.IdeaBatchResponse;
+import com.innovatepam.idea.dto.IdeaCount;
+import com.innovatepam.idea.dto.IdeaDetailResponse;
+import com.innovatepam.idea.dto.IdeaFilter;
+import com.innovatepam.idea.dto.IdeaListing;
 import com.innovatepam.idea.dto.IdeaResponse;
+import com.innovatepam.idea.dto.PageResponse;
 import com.innovatepam.idea.exception.IdeaNotFoundException;
+import com.innovatepam.idea.exception.InvalidFilterException;
 import com.innovatepam.idea.exception.InvalidStatusTransitionException;
+import com.innovatepam.idea.model.BulkStatusOutcome;
+import com.innovatepam.idea.model.CountStrategy;
 import com.innovatepam.idea.model.Idea;
+import com.innovatepam.idea.model.IdeaAttachment;
+import com.innovatepam.idea.model.IdeaEvaluation;
+import com.innovatepam.idea.model.IdeaField;
 import com.innovatepam.idea.model.IdeaStatus;
 import com.innovatepam.idea.repository.IdeaRepository;
+import com.innovatepam.idea.util.IdeaCursor;
 
 @ExtendWith(MockitoExtension.class)
 class IdeaServiceTest {
@@ -49,6 +74,15 @@ class IdeaServiceTest {
     @Mock
     private IdeaEvaluationService evaluationService;
 
+    @Mock
+    private IdeaCountService ideaCountService;
+
+    @Mock
+    private IdeaFacetService ideaFacetService;
+
+    @Mock
+    private UserRepository userRepository;
+
 
     @InjectMocks
     private IdeaService ideaService;
@@ -104,7 +138,9 @@ class IdeaServiceTest {
             return savedIdea;
         });
 
-        IdeaResponse response = ideaService.createIdea("New Idea", "Description", "Innovation", submitter, null);
+        when(userRepository.getReferenceById(submitter.getId())).thenReturn(submitter);
+
+        IdeaResponse response = ideaService.createIdea("New Idea", "Description", "Innovation", submitter.getId(), null);
 
         assertNotNull(response);
         assertEquals("New Idea", response.title());
@@ -114,6 +150,7 @@ class IdeaServiceTest {
 
         verify(ideaRepository).save(any(Idea.class));
         verify(fileStorageService, never()).storeFile(any(), any());
+        verify(ideaFacetService).recordCreated("Innovation", IdeaStatus.SUBMITTED);
     }
 
     @Test
@@ -127,7 +164,9 @@ class IdeaServiceTest {
         MultipartFile mockFile = mock(MultipartFile.class);
         when(mockFile.isEmpty()).thenReturn(false);
 
-        IdeaResponse response = ideaService.createIdea("New Idea", "Description", "Innovation", submitter, mockFile);
+        when(userRepository.getReferenceById(submitter.getId())).thenReturn(submitter);
+
+        IdeaResponse response = ideaService.createIdea("New Idea", "Description", "Innovation", submitter.getId(), mockFile);
 
         assertNotNull(response);
         assertFalse(response.hasAttachment());
@@ -136,6 +175,26 @@ class IdeaServiceTest {
         verify(fileStorageService).storeFile(eq(mockFile), any(Idea.class));
     }
 
+    @Test
+    void testCreateIdeaWithFileMarksAttachmentPresent() {
+        when(ideaRepository.save(any(Idea.class))).thenAnswer(invocation -> {
+            Idea savedIdea = invocation.getArgument(0);
+            savedIdea.setId(1L);
+            return savedIdea;
+        });
+
+        MultipartFile mockFile = mock(MultipartFile.class);
+        when(mockFile.isEmpty()).thenReturn(false);
+        when(fileStorageService.storeFile(eq(mockFile), any(Idea.class))).thenReturn(new IdeaAttachment());
+
+        when(userRepository.getReferenceById(submitter.getId())).thenReturn(submitter);
+
+        IdeaResponse response = ideaService.createIdea("New Idea", "Description", "Innovation", submitter.getId(), mockFile);
+
+        assertTrue(response.hasAttachment());
+        assertEquals(0, response.evaluationCount());
+    }
+
     @Test
     void testGetAllIdeas() {
         Idea idea2 = new Idea();
@@ -147,14 +206,44 @@ class IdeaServiceTest {
         idea2.setStatus(IdeaStatus.UNDER_REVIEW);
         idea2.onCreate();
 
-        Page<Idea> page = new PageImpl<>(Arrays.asList(idea, idea2));
-        when(ideaRepository.findAll(any(PageRequest.class))).thenReturn(page);
+        when(ideaRepository.findResponses(eq(IdeaFilter.none()), any(PageRequest.class)))
+            .thenReturn(Arrays.asList(IdeaResponse.from(idea), IdeaResponse.from(idea2)));
 
-        Page<IdeaResponse> result = ideaService.getIdeas(PageRequest.of(0, 10));
+        PageResponse<IdeaResponse> result = ideaService.getIdeas(IdeaFilter.none(), PageRequest.of(0, 10), CountStrategy.EXACT);
 
-        assertEquals(2, result.getContent().size());
-        assertEquals("Test Idea", result.getContent().get(0).title());
-        assertEquals("Second Idea", result.getContent().get(1).title());
+        assertEquals(2, result.content().size());
+        assertEquals("Test Idea", result.content().get(0).title());
+        assertEquals("Second Idea", result.content().get(1).title());
+        assertEquals(2, result.pageable().totalElements());
+        assertTrue(result.pageable().exactTotal());
+        verify(ideaCountService, never()).count(any(), any());
+    }
+
+    @Test
+    void testGetIdeasIfModifiedSkipsPageWhenVersionMatches() {
+        when(ideaRepository.findListingVersion()).thenReturn(42L);
+
+        IdeaListing unchanged = ideaService.getIdeasIfModified(
+            IdeaFilter.none(), PageRequest.of(0, 10), CountStrategy.EXACT, null, version -> version.changeCount() == 42L
+        );
+
+        assertEquals(42L, unchanged.version().changeCount());
+        assertNull(unchanged.page());
+        verify(ideaRepository, never()).findResponses(any(), any());
+    }
+
+    @Test
+    void testGetIdeasIfModifiedLoadsPageForNewVersion() {
+        when(ideaRepository.findListingVersion()).thenReturn(43L);
+        when(ideaRepository.findResponses(eq(IdeaFilter.none()), any(PageRequest.class)))
+            .thenReturn(List.of(IdeaResponse.from(idea)));
+
+        IdeaListing changed = ideaService.getIdeasIfModified(
+            IdeaFilter.none(), PageRequest.of(0, 10), CountStrategy.EXACT, null, version -> version.changeCount() == 42L
+        );
+
+        assertEquals(43L, changed.version().changeCount());
+        assertEquals(1, changed.page().content().size());
     }
 
     @Test
@@ -178,12 +267,108 @@ class IdeaServiceTest {
         });
     }
 
+    @Test
+    void testGetIdeaSummariesKeepsRequestOrderAndReportsMissing() {
+        IdeaResponse second = new IdeaResponse(
+            2L, "Second", "Innovation", IdeaStatus.SUBMITTED, "submitter@example.com", submitter.getId(),
+            LocalDateTime.now(), LocalDateTime.now(), false, 0
+        );
+        when(ideaRepository.findResponsesByIdIn(any())).thenReturn(List.of(IdeaResponse.from(idea), second));
+
+        IdeaBatchResponse<IdeaResponse> response = ideaService.getIdeaSummaries(List.of(2L, 5L, 1L, 2L));
+
+        assertEquals(List.of(2L, 1L), List.copyOf(response.ideas().keySet()));
+        assertEquals("Second", response.ideas().get(2L).title());
+        assertEquals(List.of(5L), response.missingIds());
+        verify(ideaRepository).findResponsesByIdIn(Set.of(1L, 2L, 5L));
+    }
+
+    @Test
+    void testGetIdeaDetailsUsesSingleFetch() {
+        when(ideaRepository.findDetailsByIdIn(any())).thenReturn(List.of(idea));
+
+        IdeaBatchResponse<IdeaDetailResponse> response = ideaService.getIdeaDetails(List.of(1L, 9L));
+
+        assertEquals("Description", response.ideas().get(1L).description());
+        assertEquals(List.of(9L), response.missingIds());
+        verify(ideaRepository, never()).findById(any());
+    }
+
+    @Test
+    void testGetIdeaDetailEmbedsLatestEvaluationsWithCursor() {
+        List<IdeaEvaluation> latest = new ArrayList<>();
+        for (long i = IdeaService.DETAIL_EVALUATIONS + 1; i > 0; i--) {
+            IdeaEvaluation evaluation = new IdeaEvaluation();
+            evaluation.setId(i);
+            evaluation.setIdea(idea);
+            evaluation.setEvaluator(evaluator);
+            evaluation.setComment("Comment " + i);
+            evaluation.onCreate();
+            latest.add(evaluation);
+        }
+        when(ideaRepository.findDetailById(1L)).thenReturn(Optional.of(idea));
+        when(evaluationService.getLatestEvaluations(List.of(1L), IdeaService.DETAIL_EVALUATIONS + 1))
+            .thenReturn(Map.of(1L, latest));
+
+        IdeaDetailResponse response = ideaService.getIdeaDetailById(1L);
+
+        assertEquals(IdeaService.DETAIL_EVALUATIONS, response.evaluations().size());
+        assertEquals("Comment 11", response.evaluations().get(0).comment());
+        IdeaEvaluation oldestEmbedded = latest.get(IdeaService.DETAIL_EVALUATIONS - 1);
+        assertEquals(
+            IdeaCursor.encode(oldestEmbedded.getCreatedAt(), oldestEmbedded.getId()),
+            response.evaluationsCursor()
+        );
+    }
+
+    @Test
+    void testGetIdeaDetailWithoutEvaluationsHasNoCursor() {
+        when(ideaRepository.findDetailById(1L)).thenReturn(Optional.of(idea));
+
+        IdeaDetailResponse response = ideaService.getIdeaDetailById(1L);
+
+        assertTrue(response.evaluations().isEmpty());
+        assertNull(response.evaluationsCursor());
+    }
+
+    @Test
+    void testGetIdeaDetailFieldsProjectsColumnsOnly() {
+        Set<IdeaField> fields = EnumSet.of(IdeaField.ID, IdeaField.TITLE);
+        when(ideaRepository.findFieldsById(1L, fields)).thenReturn(Optional.of(Map.of("id", 1L, "title", "Title")));
+
+        Map<String, Object> response = ideaService.getIdeaDetailFields(1L, fields);
+
+        assertEquals("Title", response.get("title"));
+        verify(ideaRepository, never()).findDetailById(any());
+    }
+
+    @Test
+    void testGetIdeaDetailFieldsLoadsEvaluationsWhenRequested() {
+        when(ideaRepository.findDetailById(1L)).thenReturn(Optional.of(idea));
+
+        Map<String, Object> response = ideaService.getIdeaDetailFields(
+            1L, EnumSet.of(IdeaField.ID, IdeaField.EVALUATIONS)
+        );
+
+        assertEquals(List.of("id", "evaluations", "evaluationsCursor"), List.copyOf(response.keySet()));
+        verify(ideaRepository, never()).findFieldsById(any(), any());
+    }
+
+    @Test
+    void testGetIdeaDetailFieldsNotFound() {
+        when(ideaRepository.findFieldsById(eq(9L), any())).thenReturn(Optional.empty());
+
+        assertThrows(IdeaNotFoundException.class, () -> ideaService.getIdeaDetailFields(9L, EnumSet.of(IdeaField.ID)));
+    }
+
     @Test
     void testUpdateStatusValidTransition() {
         when(ideaRepository.findById(1L)).thenReturn(Optional.of(idea));
         when(ideaRepository.save(any(Idea.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        IdeaResponse response = ideaService.updateStatus(1L, IdeaStatus.UNDER_REVIEW, evaluator, "Moving to review");
+        when(userRepository.getReferenceById(evaluator.getId())).thenReturn(evaluator);
+
+        IdeaResponse response = ideaService.updateStatus(1L, IdeaStatus.UNDER_REVIEW, evaluator.getId(), "Moving to review");
 
         assertEquals(IdeaStatus.UNDER_REVIEW, response.status());
 
@@ -192,6 +377,8 @@ class IdeaServiceTest {
         assertEquals(IdeaStatus.UNDER_REVIEW, captor.getValue().getStatus());
 
         verify(evaluationService).addStatusEvaluation(eq(idea), eq(evaluator), eq("Moving to review"), eq(IdeaStatus.UNDER_REVIEW));
+        verify(ideaCountService).invalidate("Process Improvement", IdeaStatus.SUBMITTED, IdeaStatus.UNDER_REVIEW);
+        verify(ideaFacetService).recordTransition("Process Improvement", IdeaStatus.SUBMITTED, IdeaStatus.UNDER_REVIEW);
     }
 
     @Test
@@ -199,7 +386,7 @@ class IdeaServiceTest {
         when(ideaRepository.findById(1L)).thenReturn(Optional.of(idea));
 
         assertThrows(InvalidStatusTransitionException.class, () -> {
-            ideaService.updateStatus(1L, IdeaStatus.ACCEPTED, evaluator, "Comment");
+            ideaService.updateStatus(1L, IdeaStatus.ACCEPTED, evaluator.getId(), "Comment");
         });
 
         verify(ideaRepository, never()).save(any());
@@ -211,7 +398,7 @@ class IdeaServiceTest {
         when(ideaRepository.findById(1L)).thenReturn(Optional.of(idea));
 
         assertThrows(InvalidStatusTransitionException.class, () -> {
-            ideaService.updateStatus(1L, IdeaStatus.REJECTED, evaluator, null);
+            ideaService.updateStatus(1L, IdeaStatus.REJECTED, evaluator.getId(), null);
         });
 
         verify(ideaRepository, never()).save(any());
@@ -222,20 +409,166 @@ class IdeaServiceTest {
         when(ideaRepository.findById(1L)).thenReturn(Optional.of(idea));
         when(ideaRepository.save(any(Idea.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        IdeaResponse response = ideaService.updateStatus(1L, IdeaStatus.UNDER_REVIEW, submitter, "Comment");
+        when(userRepository.getReferenceById(submitter.getId())).thenReturn(submitter);
+
+        IdeaResponse response = ideaService.updateStatus(1L, IdeaStatus.UNDER_REVIEW, submitter.getId(), "Comment");
 
         assertEquals(IdeaStatus.UNDER_REVIEW, response.status());
         verify(ideaRepository).save(any(Idea.class));
     }
 
+    @Test
+    void testBulkUpdateStatusReportsEachIdea() {
+        Idea accepted = new Idea();
+        accepted.setId(2L);
+        accepted.setTitle("Accepted Idea");
+        accepted.setDescription("Description");
+        accepted.setCategory("Cost Reduction");
+        accepted.setSubmitter(submitter);
+        accepted.setStatus(IdeaStatus.ACCEPTED);
+        accepted.onCreate();
+
+        when(ideaRepository.findDetailsByIdIn(any())).thenReturn(List.of(accepted, idea));
+        when(userRepository.getReferenceById(evaluator.getId())).thenReturn(evaluator);
+
+        BulkStatusUpdateResponse response = ideaService.bulkUpdateStatus(
+            List.of(1L, 2L, 3L, 1L), IdeaStatus.UNDER_REVIEW, evaluator.getId(), "Triage"
+        );
+
+        assertEquals(1, response.updated());
+        assertEquals(2, response.failed());
+        assertEquals(3, response.results().size());
+        assertEquals(BulkStatusOutcome.UPDATED, response.results().get(0).outcome());
+        assertEquals(BulkStatusOutcome.CONFLICT, response.results().get(1).outcome());
+        assertEquals(IdeaStatus.ACCEPTED, response.results().get(1).status());
+        assertEquals(BulkStatusOutcome.NOT_FOUND, response.results().get(2).outcome());
+        assertEquals(IdeaStatus.UNDER_REVIEW, idea.getStatus());
+        assertEquals(IdeaStatus.ACCEPTED, accepted.getStatus());
+
+        verify(ideaRepository).findDetailsByIdIn(Set.of(1L, 2L, 3L));
+        verify(evaluationService).addStatusEvaluations(List.of(idea), evaluator, "Triage", IdeaStatus.UNDER_REVIEW);
+        verify(ideaCountService).invalidate(eq("Process Improvement"), any(IdeaStatus[].class));
+        verify(ideaFacetService).recordTransition("Process Improvement", IdeaStatus.SUBMITTED, IdeaStatus.UNDER_REVIEW);
+    }
+
+    @Test
+    void testBulkUpdateStatusToRejectedWithoutComment() {
+        assertThrows(InvalidStatusTransitionException.class, () -> {
+            ideaService.bulkUpdateStatus(List.of(1L), IdeaStatus.REJECTED, evaluator.getId(), " ");
+        });
+
+        verify(ideaRepository, never()).findDetailsByIdIn(any());
+    }
+
     @Test
     void testGetIdeasByStatus() {
-        Page<Idea> page = new PageImpl<>(Arrays.asList(idea));
-        when(ideaRepository.findByStatus(eq(IdeaStatus.SUBMITTED), any(PageRequest.class))).thenReturn(page);
+        IdeaFilter filter = IdeaFilter.of(List.of(IdeaStatus.SUBMITTED), null);
+        when(ideaRepository.findResponses(eq(filter), any(PageRequest.class)))
+            .thenReturn(Arrays.asList(IdeaResponse.from(idea)));
+
+        PageResponse<IdeaResponse> result = ideaService.getIdeas(filter, PageRequest.of(0, 10), CountStrategy.EXACT);
+
+        assertEquals(1, result.content().size());
+        assertEquals(IdeaStatus.SUBMITTED, result.content().get(0).status());
+    }
+
+    @Test
+    void testScrollIdeasByStatusAndCategory() {
+        ScrollPosition position = ScrollPosition.keyset();
+        Window<Idea> window = Window.from(Arrays.asList(idea), index -> ScrollPosition.keyset(), true);
+        when(ideaRepository.findByCategoryAndStatus(
+            eq("Process Improvement"), eq(IdeaStatus.SUBMITTED), eq(position), eq(Limit.of(5)), eq(IdeaCursor.SORT)
+        )).thenReturn(window);
+
+        Window<IdeaResponse> result = ideaService.scrollIdeas(IdeaStatus.SUBMITTED, "Process Improvement", position, 5);
+
+        assertEquals(1, result.size());
+        assertEquals("Test Idea", result.getContent().get(0).title());
+        assertTrue(result.hasNext());
+        verify(ideaRepository, never()).findAllBy(any(), any(), any());
+    }
+
+    @Test
+    void testGetIdeasByCategoryUsesProjection() {
+        IdeaFilter filter = IdeaFilter.of(null, List.of("Process Improvement"));
+        when(ideaRepository.findResponses(eq(filter), any(PageRequest.class)))
+            .thenReturn(Arrays.asList(IdeaResponse.from(idea)));
+
+        PageResponse<IdeaResponse> result = ideaService.getIdeas(filter, PageRequest.of(0, 10), CountStrategy.EXACT);
+
+        assertEquals(1, result.content().size());
+        verify(ideaRepository, never()).findByCategory(any(String.class), any(PageRequest.class));
+    }
+
+    @Test
+    void testGetIdeasWithMultipleCriteria() {
+        IdeaFilter filter = new IdeaFilter(
+            Set.of(IdeaStatus.SUBMITTED, IdeaStatus.UNDER_REVIEW),
+            Set.of("Process Improvement", " "),
+            submitter.getId(),
+            LocalDateTime.now().minusDays(7),
+            null,
+            null,
+            null
+        );
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "title"));
+        when(ideaRepository.findResponses(filter, pageable)).thenReturn(Arrays.asList(IdeaResponse.from(idea)));
+
+        PageResponse<IdeaResponse> result = ideaService.getIdeas(filter, pageable, CountStrategy.EXACT);
+
+        assertEquals(1, result.content().size());
+        assertEquals(Set.of("Process Improvement"), filter.categories());
+        assertEquals("Test Idea", result.content().get(0).title());
+    }
+
+    @Test
+    void testGetIdeasRejectsInvertedDateRange() {
+        LocalDateTime now = LocalDateTime.now();
+        IdeaFilter filter = new IdeaFilter(null, null, null, now, now.minusDays(1), null, null);
+
+        assertThrows(InvalidFilterException.class, () ->
+            ideaService.getIdeas(filter, PageRequest.of(0, 10), CountStrategy.EXACT)
+        );
+        verify(ideaRepository, never()).findResponses(any(), any());
+    }
+
+    @Test
+    void testSearchIdeasTrimsQueryAndReturnsRankedPage() {
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(ideaRepository.search("solar panels", IdeaStatus.SUBMITTED, null, pageable))
+            .thenReturn(new PageImpl<>(Arrays.asList(IdeaResponse.from(idea)), pageable, 1));
+
+        PageResponse<IdeaResponse> result = ideaService.searchIdeas("  solar panels ", IdeaStatus.SUBMITTED, null, pageable);
+
+        assertEquals(1, result.content().size());
+        assertEquals(1, result.pageable().totalElements());
+        assertTrue(result.pageable().exactTotal());
+    }
+
+    @Test
+    void testGetIdeasFullPageUsesCountStrategy() {
+        when(ideaRepository.findResponses(eq(IdeaFilter.none()), any(PageRequest.class)))
+            .thenReturn(Arrays.asList(IdeaResponse.from(idea)));
+        when(ideaCountService.count(IdeaFilter.none(), CountStrategy.ESTIMATED))
+            .thenReturn(new IdeaCount(1200, CountStrategy.ESTIMATED, false));
+
+        PageResponse<IdeaResponse> result = ideaService.getIdeas(IdeaFilter.none(), PageRequest.of(0, 1), CountStrategy.ESTIMATED);
+
+        assertEquals(1200, result.pageable().totalElements());
+        assertEquals(1200, result.pageable().totalPages());
+        assertEquals(CountStrategy.ESTIMATED, result.pageable().countStrategy());
+        assertFalse(result.pageable().exactTotal());
+    }
+
+    @Test
+    void testScrollIdeasWithoutFilters() {
+        ScrollPosition position = ScrollPosition.keyset();
+        Window<Idea> window = Window.from(Arrays.asList(idea), index -> ScrollPosition.keyset());
+        when(ideaRepository.findAllBy(position, Limit.of(10), IdeaCursor.SORT)).thenReturn(window);
 
-        Page<IdeaResponse> result = ideaService.getIdeasByStatus(IdeaStatus.SUBMITTED, PageRequest.of(0, 10));
+        Window<IdeaResponse> result = ideaService.scrollIdeas(null, null, position, 10);
 
-        assertEquals(1, result.getContent().size());
-        assertEquals(IdeaStatus.SUBMITTED, result.getContent().get(0).status());
+        assertEquals(1, result.size());
+        assertFalse(result.hasNext());
     }
 }
@@ -0,0 +1,94 @@
+package com.innovatepam.idea.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innovatepam.idea.model.ExportFormat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExportRowWriterTest {
+
+    private static final String[] COLUMNS = {"id", "title", "has_attachment", "submitter_id", "created_at", "comment"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testNdjsonWritesOneTypedObjectPerLine() throws Exception {
+        UUID submitterId = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 10, 30, 15);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExportRowWriter writer = ExportRowWriter.create(ExportFormat.NDJSON, out, objectMapper);
+        writer.writeHeader(COLUMNS);
+        writer.writeRow(new Object[] {1L, "First \"idea\"", true, submitterId, Timestamp.valueOf(createdAt), null});
+        writer.writeRow(new Object[] {2L, "Second", false, submitterId, Timestamp.valueOf(createdAt), "Line 1\nLine 2"});
+        writer.finish();
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(1L, first.get("id").asLong());
+        assertTrue(first.get("id").isIntegralNumber());
+        assertEquals("First \"idea\"", first.get("title").asText());
+        assertTrue(first.get("has_attachment").asBoolean());
+        assertEquals(submitterId.toString(), first.get("submitter_id").asText());
+        assertEquals("2024-05-01T10:30:15", first.get("created_at").asText());
+        assertTrue(first.get("comment").isNull());
+
+        assertEquals("Line 1\nLine 2", objectMapper.readTree(lines[1]).get("comment").asText());
+    }
+
+    @Test
+    void testCsvWritesHeaderAndEscapedRows() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExportRowWriter writer = ExportRowWriter.create(ExportFormat.CSV, out, objectMapper);
+        writer.writeHeader(COLUMNS);
+        writer.writeRow(new Object[] {
+            7L, "Cheaper, faster", false, "abc", Timestamp.valueOf(LocalDateTime.of(2024, 1, 2, 3, 4, 5)), null
+        });
+        writer.finish();
+
+        assertEquals(
+            "id,title,has_attachment,submitter_id,created_at,comment\r\n"
+                + "7,\"Cheaper, faster\",false,abc,2024-01-02T03:04:05,\r\n",
+            out.toString(StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void testEscapeCsv() {
+        assertEquals("plain", ExportRowWriter.escapeCsv("plain"));
+        assertEquals("", ExportRowWriter.escapeCsv(null));
+        assertEquals("\"a,b\"", ExportRowWriter.escapeCsv("a,b"));
+        assertEquals("\"say \"\"hi\"\"\"", ExportRowWriter.escapeCsv("say \"hi\""));
+        assertEquals("\"two\nlines\"", ExportRowWriter.escapeCsv("two\nlines"));
+        assertEquals("\"carriage\rreturn\"", ExportRowWriter.escapeCsv("carriage\rreturn"));
+    }
+
+    @Test
+    void testFinishDoesNotCloseStream() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                fail("Export writer must not close the response stream");
+            }
+        };
+
+        ExportRowWriter writer = ExportRowWriter.create(ExportFormat.NDJSON, out, objectMapper);
+        writer.writeHeader(new String[] {"id"});
+        writer.writeRow(new Object[] {1});
+        writer.finish();
+
+        assertEquals("{\"id\":1}\n", out.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,56 @@
+package com.innovatepam.idea.util;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import com.innovatepam.idea.exception.InvalidCursorException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdeaCursorTest {
+
+    @Test
+    void testEncodeDecodeRoundTrip() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 3, 14, 9, 26, 53, 589_793_000);
+        ScrollPosition position = ScrollPosition.forward(Map.of("createdAt", createdAt, "id", 42L));
+
+        KeysetScrollPosition decoded = IdeaCursor.decode(IdeaCursor.encode(position));
+
+        assertEquals(createdAt, decoded.getKeys().get("createdAt"));
+        assertEquals(42L, decoded.getKeys().get("id"));
+        assertEquals(ScrollPosition.Direction.FORWARD, decoded.getDirection());
+    }
+
+    @Test
+    void testEncodedCursorIsUrlSafe() {
+        ScrollPosition position = ScrollPosition.forward(
+            Map.of("createdAt", LocalDateTime.of(2026, 1, 1, 0, 0), "id", 1L)
+        );
+
+        String cursor = IdeaCursor.encode(position);
+
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"), "Cursor should only contain base64url characters");
+    }
+
+    @Test
+    void testDecodeNullOrBlankReturnsInitialPosition() {
+        assertTrue(IdeaCursor.decode(null).isInitial());
+        assertTrue(IdeaCursor.decode("  ").isInitial());
+    }
+
+    @Test
+    void testDecodeMalformedCursorThrows() {
+        assertThrows(InvalidCursorException.class, () -> IdeaCursor.decode("not base64!"));
+        assertThrows(InvalidCursorException.class, () -> IdeaCursor.decode("bm8tc2VwYXJhdG9y"));
+        assertThrows(InvalidCursorException.class, () -> IdeaCursor.decode("MjAyNi0wMS0wMXxhYmM"));
+    }
+
+    @Test
+    void testEncodeRejectsOffsetPosition() {
+        assertThrows(IllegalArgumentException.class, () -> IdeaCursor.encode(ScrollPosition.offset()));
+    }
+}
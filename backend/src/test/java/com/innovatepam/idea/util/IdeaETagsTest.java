@@ -0,0 +1,82 @@
+package com.innovatepam.idea.util;
+
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.innovatepam.idea.dto.IdeaFilter;
+import com.innovatepam.idea.dto.IdeaListingVersion;
+import com.innovatepam.idea.model.CountStrategy;
+import com.innovatepam.idea.model.IdeaField;
+import com.innovatepam.idea.model.IdeaStatus;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdeaETagsTest {
+
+    private static final IdeaListingVersion VERSION = new IdeaListingVersion(7);
+
+    private final Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Test
+    void testIdeaTagIsStrongAndVersioned() {
+        assertEquals("\"42-3\"", IdeaETags.forIdea(42L, 3));
+        assertEquals("\"42-0\"", IdeaETags.forIdea(42L, null));
+    }
+
+    @Test
+    void testListingTagIsWeakAndIgnoresSetOrder() {
+        IdeaFilter first = IdeaFilter.of(
+            new LinkedHashSet<>(List.of(IdeaStatus.SUBMITTED, IdeaStatus.UNDER_REVIEW)),
+            new LinkedHashSet<>(List.of("Innovation", "Cost Reduction"))
+        );
+        IdeaFilter second = IdeaFilter.of(
+            new LinkedHashSet<>(List.of(IdeaStatus.UNDER_REVIEW, IdeaStatus.SUBMITTED)),
+            new LinkedHashSet<>(List.of("Cost Reduction", "Innovation"))
+        );
+        String tag = IdeaETags.forListing(first, pageable, CountStrategy.EXACT, VERSION);
+
+        assertTrue(tag.startsWith("W/\""));
+        assertTrue(tag.endsWith("\""));
+        assertEquals(tag, IdeaETags.forListing(second, pageable, CountStrategy.EXACT, VERSION));
+    }
+
+    @Test
+    void testListingTagChangesWithDataAndRequest() {
+        IdeaFilter filter = IdeaFilter.none();
+        String tag = IdeaETags.forListing(filter, pageable, CountStrategy.EXACT, VERSION);
+
+        assertNotEquals(tag, IdeaETags.forListing(filter, pageable, CountStrategy.EXACT, new IdeaListingVersion(8)));
+        assertNotEquals(tag, IdeaETags.forListing(
+            filter, PageRequest.of(1, 10, pageable.getSort()), CountStrategy.EXACT, VERSION
+        ));
+        assertNotEquals(tag, IdeaETags.forListing(
+            IdeaFilter.of(List.of(IdeaStatus.SUBMITTED), null), pageable, CountStrategy.EXACT, VERSION
+        ));
+    }
+
+    @Test
+    void testTagsChangeWithFieldSelection() {
+        String full = IdeaETags.forListing(IdeaFilter.none(), pageable, CountStrategy.EXACT, VERSION);
+        String sparse = IdeaETags.forListing(
+            IdeaFilter.none(), pageable, CountStrategy.EXACT, EnumSet.of(IdeaField.ID, IdeaField.TITLE), VERSION
+        );
+
+        assertEquals(full, IdeaETags.forListing(IdeaFilter.none(), pageable, CountStrategy.EXACT, null, VERSION));
+        assertNotEquals(full, sparse);
+        assertEquals("\"42-3-id.title\"", IdeaETags.forIdea(42L, 3, EnumSet.of(IdeaField.TITLE, IdeaField.ID)));
+        assertEquals("\"42-3\"", IdeaETags.forIdea(42L, 3, null));
+    }
+
+    @Test
+    void testListingTagEndsWithVersion() {
+        String tag = IdeaETags.forListing(IdeaFilter.none(), pageable, CountStrategy.EXACT, VERSION);
+
+        assertTrue(tag.endsWith("-7\""));
+    }
+}
@@ -0,0 +1,82 @@
+package com.innovatepam.idea.util;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.innovatepam.auth.model.User;
+import com.innovatepam.idea.dto.LatestEvaluations;
+import com.innovatepam.idea.exception.InvalidFilterException;
+import com.innovatepam.idea.model.Idea;
+import com.innovatepam.idea.model.IdeaField;
+import com.innovatepam.idea.model.IdeaStatus;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdeaFieldsTest {
+
+    @Test
+    void testParseAlwaysIncludesId() {
+        assertEquals(
+            EnumSet.of(IdeaField.ID, IdeaField.TITLE, IdeaField.STATUS),
+            IdeaFields.parse(List.of("status", " title", ""), false)
+        );
+    }
+
+    @Test
+    void testParseWithoutFieldsMeansFullRepresentation() {
+        assertNull(IdeaFields.parse(null, false));
+        assertNull(IdeaFields.parse(List.of(" "), true));
+    }
+
+    @Test
+    void testParseRejectsUnknownAndNestedListingFields() {
+        InvalidFilterException unknown = assertThrows(
+            InvalidFilterException.class, () -> IdeaFields.parse(List.of("title", "secret"), true)
+        );
+        assertEquals("Unknown field: secret", unknown.getMessage());
+
+        assertThrows(InvalidFilterException.class, () -> IdeaFields.parse(List.of("evaluations"), false));
+        assertTrue(IdeaFields.parse(List.of("evaluations"), true).contains(IdeaField.EVALUATIONS));
+    }
+
+    @Test
+    void testKeyIsOrderIndependent() {
+        assertEquals("id.title.status", IdeaFields.key(EnumSet.of(IdeaField.STATUS, IdeaField.ID, IdeaField.TITLE)));
+        assertEquals("*", IdeaFields.key(null));
+    }
+
+    @Test
+    void testToMapKeepsOnlyRequestedFieldsInOrder() {
+        User submitter = new User();
+        submitter.setId(UUID.randomUUID());
+        submitter.setEmail("submitter@test.com");
+
+        Idea idea = new Idea();
+        idea.setId(7L);
+        idea.setTitle("Title");
+        idea.setDescription("Description");
+        idea.setStatus(IdeaStatus.SUBMITTED);
+        idea.setSubmitter(submitter);
+        idea.setCreatedAt(LocalDateTime.of(2024, 5, 1, 10, 0));
+
+        Map<String, Object> values = IdeaFields.toMap(
+            idea,
+            EnumSet.of(IdeaField.SUBMITTER_NAME, IdeaField.ID, IdeaField.STATUS, IdeaField.EVALUATIONS),
+            new LatestEvaluations(List.of(), "cursor")
+        );
+
+        assertEquals(
+            List.of("id", "status", "submitterName", "evaluations", "evaluationsCursor"),
+            List.copyOf(values.keySet())
+        );
+        assertEquals(IdeaStatus.SUBMITTED, values.get("status"));
+        assertEquals("submitter@test.com", values.get("submitterName"));
+        assertEquals(List.of(), values.get("evaluations"));
+        assertEquals("cursor", values.get("evaluationsCursor"));
+    }
+}
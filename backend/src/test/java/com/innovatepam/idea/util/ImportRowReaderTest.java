@@ -0,0 +1,88 @@
+package com.innovatepam.idea.util;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innovatepam.idea.model.ExportFormat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImportRowReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testNdjsonReadsObjectsAndReportsMalformedLines() throws Exception {
+        ImportRowReader reader = reader(ExportFormat.NDJSON,
+            "{\"title\":\"First\",\"evaluation_count\":3,\"comment\":null}\n"
+                + "\n"
+                + "{not json\n"
+                + "[1,2]\n"
+                + "{\"title\":{\"nested\":true}}\n");
+
+        ImportRowReader.Row first = reader.next();
+        assertEquals(1, first.number());
+        assertNull(first.error());
+        assertEquals("First", first.values().get("title"));
+        assertEquals("3", first.values().get("evaluation_count"));
+        assertFalse(first.values().containsKey("comment"));
+
+        assertEquals("Malformed JSON", reader.next().error());
+
+        ImportRowReader.Row array = reader.next();
+        assertEquals(3, array.number());
+        assertEquals("Row must be a JSON object", array.error());
+
+        assertTrue(reader.next().error().contains("title"));
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testCsvReadsQuotedFieldsAcrossLines() throws Exception {
+        ImportRowReader reader = reader(ExportFormat.CSV,
+            "title,description,category\r\n"
+                + "\"Cheaper, faster\",\"Line 1\r\nLine \"\"2\"\"\",Ops\r\n"
+                + "\r\n"
+                + "Plain,,Ops\n");
+
+        ImportRowReader.Row first = reader.next();
+        assertEquals(1, first.number());
+        assertEquals("Cheaper, faster", first.values().get("title"));
+        assertEquals("Line 1\r\nLine \"2\"", first.values().get("description"));
+        assertEquals("Ops", first.values().get("category"));
+
+        ImportRowReader.Row second = reader.next();
+        assertEquals(2, second.number());
+        assertEquals("Plain", second.values().get("title"));
+        assertFalse(second.values().containsKey("description"));
+
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testCsvReportsWrongFieldCountAndUnterminatedQuote() throws Exception {
+        ImportRowReader reader = reader(ExportFormat.CSV, "title,category\nOnly one\nOk,Ops\n\"Open,Ops\n");
+
+        assertEquals("Expected 2 fields but found 1", reader.next().error());
+        assertNull(reader.next().error());
+        assertEquals("Unterminated quoted field", reader.next().error());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testCsvRoundTripsExportEscaping() throws Exception {
+        String value = "Has a comma, and a \"quote\"";
+        ImportRowReader reader = reader(ExportFormat.CSV, "title\n" + ExportRowWriter.escapeCsv(value) + "\n");
+
+        assertEquals(value, reader.next().values().get("title"));
+    }
+
+    private ImportRowReader reader(ExportFormat format, String content) {
+        return ImportRowReader.create(
+            format, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), objectMapper
+        );
+    }
+}